@@ -2,8 +2,10 @@ package br.com.maestria.maestria_course_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class MaestriaCourseServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,73 @@
+package br.com.maestria.maestria_course_service.archive;
+
+import br.com.maestria.maestria_course_service.repository.CourseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Move cursos excluídos logicamente para {@code courses_archive} em lotes pequenos,
+ * com pausa entre lotes para não competir com o tráfego de leitura.
+ */
+@Component
+@Slf4j
+public class CourseArchiver {
+
+    private final CourseRepository courseRepository;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration pauseBetweenBatches;
+
+    public CourseArchiver(CourseRepository courseRepository,
+                          @Value("${course.archive.retention:7d}") Duration retention,
+                          @Value("${course.archive.batch-size:500}") int batchSize,
+                          @Value("${course.archive.max-batches-per-run:20}") int maxBatchesPerRun,
+                          @Value("${course.archive.pause-between-batches:200ms}") Duration pauseBetweenBatches) {
+        this.courseRepository = courseRepository;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pauseBetweenBatches = pauseBetweenBatches;
+    }
+
+    @Scheduled(fixedDelayString = "${course.archive.interval-ms:60000}")
+    public void archiveExpired() {
+        archiveDeletedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    public int archiveDeletedBefore(LocalDateTime cutoff) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int moved = courseRepository.archiveDeletedBefore(cutoff, batchSize);
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("{} cursos excluídos movidos para o arquivo", total);
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        if (pauseBetweenBatches.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatches.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.maestria.maestria_course_service.cache;
+
+import br.com.maestria.maestria_course_service.entity.Course;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache local de cursos deste nó. Cada invalidação avança uma geração; valores carregados antes de uma
+ * invalidação são descartados em vez de gravados, para que uma leitura lenta não reponha um dado já alterado.
+ */
+@Component
+@Slf4j
+public class CourseCache {
+
+    private static final String ALL_COURSES_KEY = "all";
+    private static final String TENANT_KEY_PREFIX = "tenant:";
+
+    private final Cache<UUID, Course> coursesById;
+    private final Cache<String, List<Course>> courseLists;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CourseCache(@Value("${course.cache.ttl:5m}") Duration ttl,
+                       @Value("${course.cache.max-size:10000}") long maxSize) {
+        this.coursesById = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+        this.courseLists = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(1024)
+                .build();
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public Optional<Course> get(UUID courseId) {
+        return Optional.ofNullable(coursesById.getIfPresent(courseId));
+    }
+
+    public void put(Course course, long loadedAtGeneration) {
+        putIfCurrent(coursesById, course.getId(), course, loadedAtGeneration);
+    }
+
+    public Optional<List<Course>> getAll() {
+        return Optional.ofNullable(courseLists.getIfPresent(ALL_COURSES_KEY));
+    }
+
+    public void putAll(List<Course> courses, long loadedAtGeneration) {
+        putIfCurrent(courseLists, ALL_COURSES_KEY, courses, loadedAtGeneration);
+    }
+
+    public Optional<List<Course>> getByTenant(UUID tenantId) {
+        return Optional.ofNullable(courseLists.getIfPresent(TENANT_KEY_PREFIX + tenantId));
+    }
+
+    public void putByTenant(UUID tenantId, List<Course> courses, long loadedAtGeneration) {
+        putIfCurrent(courseLists, TENANT_KEY_PREFIX + tenantId, courses, loadedAtGeneration);
+    }
+
+    public void evict(Collection<UUID> courseIds) {
+        generation.incrementAndGet();
+        coursesById.invalidateAll(courseIds);
+        courseLists.invalidateAll();
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        coursesById.invalidateAll();
+        courseLists.invalidateAll();
+        log.info("Cache local de cursos esvaziado");
+    }
+
+    /**
+     * A verificação e a escrita não são atômicas: se uma invalidação avançar a geração entre as duas,
+     * a entrada recém-gravada é removida de novo.
+     */
+    private <K, V> void putIfCurrent(Cache<K, V> cache, K key, V value, long loadedAtGeneration) {
+        if (generation.get() != loadedAtGeneration) {
+            return;
+        }
+        cache.put(key, value);
+        if (generation.get() != loadedAtGeneration) {
+            cache.invalidate(key);
+        }
+    }
+
+    public long size() {
+        return coursesById.estimatedSize();
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.maestria.maestria_course_service.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Propaga invalidações de cursos para os outros nós via {@code NOTIFY}. As alterações são aplicadas ao cache
+ * local e ao {@link LastKnownGoodCache} após o commit e acumuladas num conjunto, enviado periodicamente em
+ * poucas notificações.
+ */
+@Component
+@Slf4j
+public class CourseInvalidationBus {
+
+    static final char NODE_SEPARATOR = ':';
+    static final char ID_SEPARATOR = ',';
+    private static final int MAX_IDS_PER_NOTIFICATION = 200;
+
+    private final CourseCache courseCache;
+    private final LastKnownGoodCache lastKnownGoodCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    public CourseInvalidationBus(CourseCache courseCache,
+                                 LastKnownGoodCache lastKnownGoodCache,
+                                 JdbcTemplate jdbcTemplate,
+                                 @Value("${course.cache.invalidation.channel:course_invalidation}") String channel,
+                                 @Value("${course.cache.invalidation.enabled:true}") boolean enabled) {
+        this.courseCache = courseCache;
+        this.lastKnownGoodCache = lastKnownGoodCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = channel;
+        this.enabled = enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void invalidate(UUID courseId) {
+        invalidate(Collections.singletonList(courseId));
+    }
+
+    public void invalidate(Collection<UUID> courseIds) {
+        afterCommit(() -> apply(courseIds));
+    }
+
+    /**
+     * Como {@link #invalidate(UUID)}, mas também registra o curso como ausente no {@link LastKnownGoodCache},
+     * para que uma falha do banco não volte a servir o curso excluído.
+     */
+    public void invalidateDeleted(UUID courseId) {
+        afterCommit(() -> {
+            apply(Collections.singletonList(courseId));
+            lastKnownGoodCache.markDeleted(courseId);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${course.cache.invalidation.flush-interval-ms:100}")
+    public void flush() {
+        if (!enabled || pending.isEmpty()) {
+            return;
+        }
+        List<UUID> batch = new ArrayList<>();
+        for (Iterator<UUID> iterator = pending.iterator(); iterator.hasNext(); ) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        for (int from = 0; from < batch.size(); from += MAX_IDS_PER_NOTIFICATION) {
+            List<UUID> chunk = batch.subList(from, Math.min(from + MAX_IDS_PER_NOTIFICATION, batch.size()));
+            try {
+                jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, payload(chunk));
+            } catch (DataAccessException e) {
+                log.warn("Falha ao publicar invalidação de {} cursos; será reenviada", chunk.size(), e);
+                pending.addAll(batch.subList(from, batch.size()));
+                return;
+            }
+        }
+        log.debug("Invalidação publicada para {} cursos", batch.size());
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private void apply(Collection<UUID> courseIds) {
+        courseCache.evict(courseIds);
+        lastKnownGoodCache.evictCourses(courseIds);
+        if (enabled) {
+            pending.addAll(courseIds);
+        }
+    }
+
+    private String payload(List<UUID> courseIds) {
+        return nodeId + NODE_SEPARATOR + courseIds.stream()
+                .map(UUID::toString)
+                .collect(Collectors.joining(String.valueOf(ID_SEPARATOR)));
+    }
+}
@@ -0,0 +1,169 @@
+package br.com.maestria.maestria_course_service.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Mantém uma conexão dedicada em {@code LISTEN} e remove do cache local e do {@link LastKnownGoodCache} os cursos
+ * alterados por outros nós. Se a conexão cair, reconecta e esvazia os dois caches, já que notificações podem ter
+ * sido perdidas.
+ */
+@Component
+@ConditionalOnProperty(name = "course.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class CourseInvalidationListener implements SmartLifecycle {
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CourseCache courseCache;
+    private final LastKnownGoodCache lastKnownGoodCache;
+    private final CourseInvalidationBus courseInvalidationBus;
+    private final int pollTimeoutMillis;
+    private final long reconnectBackoffMillis;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listenerThread;
+
+    public CourseInvalidationListener(DataSourceProperties dataSourceProperties,
+                                      CourseCache courseCache,
+                                      LastKnownGoodCache lastKnownGoodCache,
+                                      CourseInvalidationBus courseInvalidationBus,
+                                      @Value("${course.cache.invalidation.poll-timeout:500ms}") Duration pollTimeout,
+                                      @Value("${course.cache.invalidation.reconnect-backoff:1s}") Duration reconnectBackoff) {
+        if (!courseInvalidationBus.getChannel().matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Canal de invalidação inválido: " + courseInvalidationBus.getChannel());
+        }
+        this.dataSourceProperties = dataSourceProperties;
+        this.courseCache = courseCache;
+        this.lastKnownGoodCache = lastKnownGoodCache;
+        this.courseInvalidationBus = courseInvalidationBus;
+        this.pollTimeoutMillis = (int) pollTimeout.toMillis();
+        this.reconnectBackoffMillis = reconnectBackoff.toMillis();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "course-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(connection);
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection listenerConnection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                connection = listenerConnection;
+                try (Statement statement = listenerConnection.createStatement()) {
+                    statement.execute("LISTEN " + courseInvalidationBus.getChannel());
+                }
+                if (connectedBefore) {
+                    clearLocalCaches();
+                    log.info("Conexão de invalidação restabelecida; cache local esvaziado");
+                }
+                connectedBefore = true;
+                PGConnection pgConnection = listenerConnection.unwrap(PGConnection.class);
+                while (running) {
+                    handle(pgConnection.getNotifications(pollTimeoutMillis));
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Conexão de invalidação de cursos perdida; nova tentativa em {} ms", reconnectBackoffMillis, e);
+                sleepBeforeReconnect();
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                clearLocalCaches();
+                log.error("Falha inesperada no listener de invalidação; cache esvaziado e nova conexão em {} ms",
+                        reconnectBackoffMillis, e);
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    private void clearLocalCaches() {
+        courseCache.clear();
+        lastKnownGoodCache.clear();
+    }
+
+    void handle(PGNotification[] notifications) {
+        if (notifications == null || notifications.length == 0) {
+            return;
+        }
+        Set<UUID> courseIds = new HashSet<>();
+        for (PGNotification notification : notifications) {
+            String payload = notification.getParameter();
+            int separator = payload.indexOf(CourseInvalidationBus.NODE_SEPARATOR);
+            if (separator < 0 || payload.substring(0, separator).equals(courseInvalidationBus.getNodeId())) {
+                continue;
+            }
+            for (String courseId : payload.substring(separator + 1).split(String.valueOf(CourseInvalidationBus.ID_SEPARATOR))) {
+                try {
+                    courseIds.add(UUID.fromString(courseId));
+                } catch (IllegalArgumentException e) {
+                    log.warn("ID de curso inválido ignorado na notificação de invalidação: '{}'", courseId);
+                }
+            }
+        }
+        if (!courseIds.isEmpty()) {
+            courseCache.evict(courseIds);
+            lastKnownGoodCache.evictCourses(courseIds);
+            log.debug("Invalidação remota aplicada para {} cursos", courseIds.size());
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectBackoffMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // a conexão já está sendo descartada
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.maestria.maestria_course_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Último resultado lido com sucesso do banco para cada leitura, consultado só quando o banco está indisponível.
+ * Escritas removem a leitura do curso e as listagens (cursos excluídos ficam registrados como ausentes), para
+ * que uma indisponibilidade não traga de volta preços antigos ou cursos apagados.
+ */
+@Component
+public class LastKnownGoodCache {
+
+    private static final String COURSE_KEY_PREFIX = "course:";
+    private static final String TENANT_KEY_PREFIX = "tenant:";
+
+    private final Cache<String, Entry<?>> entries;
+
+    public LastKnownGoodCache(@Value("${course.read.stale.max-age:1h}") Duration maxAge,
+                              @Value("${course.read.stale.max-entries:10000}") long maxEntries) {
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(maxAge)
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    public <V> void put(String key, V value) {
+        entries.put(key, new Entry<>(value, Instant.now()));
+    }
+
+    public static String courseKey(UUID courseId) {
+        return COURSE_KEY_PREFIX + courseId;
+    }
+
+    public static String tenantKey(UUID tenantId) {
+        return TENANT_KEY_PREFIX + tenantId;
+    }
+
+    public void evictCourses(Collection<UUID> courseIds) {
+        for (UUID courseId : courseIds) {
+            entries.invalidate(courseKey(courseId));
+        }
+        evictLists();
+    }
+
+    public void markDeleted(UUID courseId) {
+        put(courseKey(courseId), Optional.empty());
+        evictLists();
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    private void evictLists() {
+        entries.asMap().keySet().removeIf(key -> !key.startsWith(COURSE_KEY_PREFIX));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> Optional<Entry<V>> get(String key) {
+        return Optional.ofNullable((Entry<V>) entries.getIfPresent(key));
+    }
+
+    @Getter
+    public static final class Entry<V> {
+        private final V value;
+        private final Instant loadedAt;
+
+        Entry(V value, Instant loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
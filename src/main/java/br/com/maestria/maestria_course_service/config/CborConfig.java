@@ -0,0 +1,21 @@
+package br.com.maestria.maestria_course_service.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Codificação CBOR para os serviços internos ({@code Accept: application/cbor}). O mapper parte do mesmo
+ * {@link Jackson2ObjectMapperBuilder} do JSON, então os campos e o formato das datas são os mesmos; UUIDs e
+ * preços usam os tipos nativos do CBOR (16 bytes e fração decimal). O JSON continua sendo o padrão.
+ */
+@Configuration
+public class CborConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.maestria.maestria_course_service.config;
+
+import br.com.maestria.maestria_course_service.observability.QueryMetricsDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * O Spring Boot deixa de configurar o DataSource JDBC quando existe um ConnectionFactory R2DBC. Como o JPA
+ * continua atendendo as escritas, o pool Hikari é declarado aqui a partir de {@code spring.datasource.*}
+ * e exposto por trás de {@link QueryMetricsDataSource} para a contagem de SQL por requisição.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    /**
+     * O pool continua sendo um bean próprio para que o Spring o feche no desligamento; só o
+     * {@link QueryMetricsDataSource} é injetado nos demais componentes.
+     */
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource hikariDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public QueryMetricsDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return new QueryMetricsDataSource(hikariDataSource(dataSourceProperties));
+    }
+}
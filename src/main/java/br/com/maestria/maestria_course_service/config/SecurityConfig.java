@@ -31,7 +31,10 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/v1/courses/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/courses/batch-get").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/courses").hasAnyRole("ADMIN","INSTRUTOR")
                         .requestMatchers(HttpMethod.PUT, "/api/v1/courses/**").hasAnyRole("ADMIN","INSTRUTOR")
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/courses/**").hasAnyRole("ADMIN","INSTRUTOR")
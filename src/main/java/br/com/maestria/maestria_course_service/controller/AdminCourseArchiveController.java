@@ -0,0 +1,54 @@
+package br.com.maestria.maestria_course_service.controller;
+
+import br.com.maestria.maestria_course_service.dto.response.ArchivedCourseResponse;
+import br.com.maestria.maestria_course_service.exception.InvalidRequestException;
+import br.com.maestria.maestria_course_service.repository.ArchivedCourseRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/v1/admin/courses/archive")
+public class AdminCourseArchiveController {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final ArchivedCourseRepository archivedCourseRepository;
+
+    public AdminCourseArchiveController(ArchivedCourseRepository archivedCourseRepository) {
+        this.archivedCourseRepository = archivedCourseRepository;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ArchivedCourseResponse>> getArchivedCourses(@RequestParam(required = false) UUID tenantId,
+                                                                           @RequestParam(defaultValue = "0") int page,
+                                                                           @RequestParam(defaultValue = "50") int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Paginação inválida: page >= 0 e size entre 1 e " + MAX_PAGE_SIZE);
+        }
+        PageRequest pageRequest = PageRequest.of(page, size);
+        List<ArchivedCourseResponse> courses = (tenantId == null
+                ? archivedCourseRepository.findAllByOrderByDeletedAtDesc(pageRequest)
+                : archivedCourseRepository.findByTenantIdOrderByDeletedAtDesc(tenantId, pageRequest))
+                .stream()
+                .map(ArchivedCourseResponse::from)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(courses);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ArchivedCourseResponse> getArchivedCourse(@PathVariable UUID id) {
+        return archivedCourseRepository.findById(id)
+                .map(ArchivedCourseResponse::from)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.maestria.maestria_course_service.controller;
+
+import br.com.maestria.maestria_course_service.dto.request.CreateRepricingJobRequest;
+import br.com.maestria.maestria_course_service.dto.response.RepricingJobResponse;
+import br.com.maestria.maestria_course_service.entity.CourseRepricingJob;
+import br.com.maestria.maestria_course_service.exception.InvalidRequestException;
+import br.com.maestria.maestria_course_service.repricing.CourseRepricingService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/v1/admin/courses/repricing-jobs")
+public class AdminRepricingJobController {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final CourseRepricingService repricingService;
+
+    public AdminRepricingJobController(CourseRepricingService repricingService) {
+        this.repricingService = repricingService;
+    }
+
+    @PostMapping
+    public ResponseEntity<RepricingJobResponse> createJob(@RequestBody CreateRepricingJobRequest request,
+                                                          @AuthenticationPrincipal Jwt jwt) {
+        CourseRepricingJob job = repricingService.createJob(request, jwt);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(RepricingJobResponse.from(job));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<RepricingJobResponse>> getJobs(@RequestParam(required = false) UUID tenantId,
+                                                              @RequestParam(defaultValue = "0") int page,
+                                                              @RequestParam(defaultValue = "50") int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Paginação inválida: page >= 0 e size entre 1 e " + MAX_PAGE_SIZE);
+        }
+        List<RepricingJobResponse> jobs = repricingService.findJobs(tenantId, PageRequest.of(page, size))
+                .stream()
+                .map(RepricingJobResponse::from)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(jobs);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<RepricingJobResponse> getJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(RepricingJobResponse.from(repricingService.getJob(id)));
+    }
+}
@@ -1,63 +1,143 @@
 package br.com.maestria.maestria_course_service.controller;
 
 
+import br.com.maestria.maestria_course_service.dto.request.BatchGetCoursesRequest;
 import br.com.maestria.maestria_course_service.dto.request.CreateCourseRequest;
 import br.com.maestria.maestria_course_service.dto.request.UpdateCourseRequest;
+import br.com.maestria.maestria_course_service.dto.response.BatchGetCoursesResponse;
+import br.com.maestria.maestria_course_service.dto.response.CourseListResponse;
 import br.com.maestria.maestria_course_service.dto.response.CourseResponse;
 import br.com.maestria.maestria_course_service.entity.Course;
+import br.com.maestria.maestria_course_service.exception.InvalidRequestException;
+import br.com.maestria.maestria_course_service.idempotency.IdempotentCourseCreator;
 import br.com.maestria.maestria_course_service.service.CourseService;
+import br.com.maestria.maestria_course_service.snapshot.CatalogSnapshotStore;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/courses")
 @Slf4j
 public class CourseController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final CourseService courseService;
+    private final IdempotentCourseCreator idempotentCourseCreator;
+    private final CatalogSnapshotStore catalogSnapshotStore;
+    private final int batchGetMaxIds;
 
-    public CourseController(CourseService courseService) {
+    public CourseController(CourseService courseService,
+                            IdempotentCourseCreator idempotentCourseCreator,
+                            CatalogSnapshotStore catalogSnapshotStore,
+                            @Value("${course.batch-get.max-ids:500}") int batchGetMaxIds) {
         this.courseService = courseService;
+        this.idempotentCourseCreator = idempotentCourseCreator;
+        this.catalogSnapshotStore = catalogSnapshotStore;
+        this.batchGetMaxIds = batchGetMaxIds;
     }
 
     @PostMapping
-    public ResponseEntity<Course> createCourse(@RequestBody CreateCourseRequest request, @AuthenticationPrincipal Jwt jwt) {
+    public ResponseEntity<Course> createCourse(@RequestBody CreateCourseRequest request,
+                                               @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                               @AuthenticationPrincipal Jwt jwt) {
         log.info("Controller recebeu requisição para criar curso: {}", request.getTitle());
 
+        if (idempotencyKey != null) {
+            IdempotentCourseCreator.Result result = idempotentCourseCreator.createCourse(idempotencyKey, request, jwt);
+            ResponseEntity.BodyBuilder response = ResponseEntity.status(201);
+            if (result.isReplayed()) {
+                response.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+            }
+            return response.body(result.getCourse());
+        }
+
         Course savedCourse = courseService.createCourse(request, jwt);
 
         return ResponseEntity.status(201).body(savedCourse);
     }
 
     @GetMapping
-    public ResponseEntity<List<CourseResponse>> getAllCourses() {
-        List<Course> courses = courseService.findAll();
-        List<CourseResponse> response = courses.stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+    public ResponseEntity<CourseListResponse> getAllCourses(@RequestParam(required = false) UUID tenantId) {
+        if (tenantId != null) {
+            Optional<ByteBuffer> snapshot = catalogSnapshotStore.find(tenantId);
+            if (snapshot.isPresent()) {
+                return ResponseEntity.ok(CourseListResponse.preSerialized(snapshot.get()));
+            }
+        }
+        return ResponseEntity.ok(loadCourses(tenantId));
+    }
+
+    /**
+     * Leitura em CBOR para os serviços internos; o snapshot está em JSON, então a lista vem sempre do serviço.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_CBOR_VALUE)
+    public ResponseEntity<CourseListResponse> getAllCoursesCbor(@RequestParam(required = false) UUID tenantId) {
+        return ResponseEntity.ok(loadCourses(tenantId));
+    }
+
+    private CourseListResponse loadCourses(UUID tenantId) {
+        List<Course> courses = tenantId == null
+                ? courseService.findAll()
+                : courseService.findAllByTenant(tenantId);
+        return new CourseListResponse(courses);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<CourseResponse> getCourseById(@PathVariable UUID id) {
         return courseService.findById(id)
-                .map(this::convertToResponseDto)
+                .map(CourseResponse::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PostMapping("/batch-get")
+    public ResponseEntity<BatchGetCoursesResponse> batchGetCourses(@RequestBody BatchGetCoursesRequest request) {
+        if (request.getIds() == null || request.getIds().isEmpty()) {
+            throw new InvalidRequestException("Informe ao menos um ID de curso");
+        }
+        Set<UUID> requestedIds = new LinkedHashSet<>(request.getIds());
+        if (requestedIds.size() > batchGetMaxIds) {
+            throw new InvalidRequestException("No máximo " + batchGetMaxIds + " cursos podem ser buscados por requisição");
+        }
+
+        Map<UUID, Course> found = courseService.findAllByIds(requestedIds);
+        List<CourseResponse> courses = new ArrayList<>(found.size());
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : requestedIds) {
+            Course course = found.get(id);
+            if (course != null) {
+                courses.add(CourseResponse.from(course));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return ResponseEntity.ok(BatchGetCoursesResponse.builder()
+                .courses(courses)
+                .missingIds(missingIds)
+                .build());
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<CourseResponse> updateCourse(@PathVariable UUID id, @RequestBody UpdateCourseRequest request, @AuthenticationPrincipal Jwt jwt) {
         Course updatedCourse = courseService.updateCourse(id, request, jwt);
-        return ResponseEntity.ok(convertToResponseDto(updatedCourse));
+        return ResponseEntity.ok(CourseResponse.from(updatedCourse));
     }
 
     @DeleteMapping("/{id}")
@@ -65,16 +145,4 @@ public class CourseController {
     public void deleteCourse(@PathVariable UUID id, @AuthenticationPrincipal Jwt jwt) {
         courseService.deleteCourse(id, jwt);
     }
-
-    private CourseResponse convertToResponseDto(Course course) {
-        return CourseResponse.builder()
-                .id(course.getId())
-                .title(course.getTitle())
-                .description(course.getDescription())
-                .price(course.getPrice())
-                .instructorId(course.getInstructorId())
-                .createdAt(course.getCreatedAt())
-                .updatedAt(course.getUpdatedAt())
-                .build();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package br.com.maestria.maestria_course_service.controller;
+
+import br.com.maestria.maestria_course_service.dto.response.CourseResponse;
+import br.com.maestria.maestria_course_service.service.ReactiveCourseService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/courses/stream")
+public class ReactiveCourseController {
+
+    private final ReactiveCourseService reactiveCourseService;
+
+    public ReactiveCourseController(ReactiveCourseService reactiveCourseService) {
+        this.reactiveCourseService = reactiveCourseService;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CourseResponse> getAllCourses() {
+        return reactiveCourseService.findAll()
+                .map(CourseResponse::from);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CourseResponse>> getCourseById(@PathVariable UUID id) {
+        return reactiveCourseService.findById(id)
+                .map(CourseResponse::from)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
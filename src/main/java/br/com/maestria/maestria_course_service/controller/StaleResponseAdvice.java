@@ -0,0 +1,45 @@
+package br.com.maestria.maestria_course_service.controller;
+
+import br.com.maestria.maestria_course_service.support.StaleReads;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Sinaliza com {@code Age} e {@value #STALE_HEADER} as respostas montadas a partir do último dado bom conhecido.
+ */
+@RestControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STALE_HEADER = "X-Data-Stale";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            StaleReads.loadedAt(attributes).ifPresent(loadedAt -> {
+                long ageSeconds = Math.max(0, Duration.between(loadedAt, Instant.now()).getSeconds());
+                response.getHeaders().set(HttpHeaders.AGE, Long.toString(ageSeconds));
+                response.getHeaders().set(STALE_HEADER, "true");
+            });
+        }
+        return body;
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.maestria.maestria_course_service.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BatchGetCoursesRequest {
+    private List<UUID> ids;
+}
@@ -0,0 +1,15 @@
+package br.com.maestria.maestria_course_service.dto.request;
+
+import br.com.maestria.maestria_course_service.entity.RepricingRule;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+public class CreateRepricingJobRequest {
+    private UUID tenantId;
+    private UUID instructorId;
+    private RepricingRule rule;
+    private BigDecimal value;
+}
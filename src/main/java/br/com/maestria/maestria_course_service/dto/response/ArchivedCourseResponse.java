@@ -0,0 +1,39 @@
+package br.com.maestria.maestria_course_service.dto.response;
+
+import br.com.maestria.maestria_course_service.entity.ArchivedCourse;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+public class ArchivedCourseResponse {
+    private UUID id;
+    private String title;
+    private String description;
+    private BigDecimal price;
+    private UUID tenantId;
+    private UUID instructorId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime deletedAt;
+    private LocalDateTime archivedAt;
+
+    public static ArchivedCourseResponse from(ArchivedCourse course) {
+        return ArchivedCourseResponse.builder()
+                .id(course.getId())
+                .title(course.getTitle())
+                .description(course.getDescription())
+                .price(course.getPrice())
+                .tenantId(course.getTenantId())
+                .instructorId(course.getInstructorId())
+                .createdAt(course.getCreatedAt())
+                .updatedAt(course.getUpdatedAt())
+                .deletedAt(course.getDeletedAt())
+                .archivedAt(course.getArchivedAt())
+                .build();
+    }
+}
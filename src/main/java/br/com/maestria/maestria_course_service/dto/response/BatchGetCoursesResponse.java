@@ -0,0 +1,14 @@
+package br.com.maestria.maestria_course_service.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class BatchGetCoursesResponse {
+    private List<CourseResponse> courses;
+    private List<UUID> missingIds;
+}
@@ -0,0 +1,33 @@
+package br.com.maestria.maestria_course_service.dto.response;
+
+import br.com.maestria.maestria_course_service.entity.Course;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+@Getter
+public class CourseListResponse {
+    private final List<Course> courses;
+    private final ByteBuffer serializedJson;
+
+    public CourseListResponse(List<Course> courses) {
+        this(courses, null);
+    }
+
+    private CourseListResponse(List<Course> courses, ByteBuffer serializedJson) {
+        this.courses = courses;
+        this.serializedJson = serializedJson;
+    }
+
+    /**
+     * Lista já serializada como array JSON, escrita na resposta sem passar pelo Jackson.
+     */
+    public static CourseListResponse preSerialized(ByteBuffer serializedJson) {
+        return new CourseListResponse(null, serializedJson);
+    }
+
+    public boolean isPreSerialized() {
+        return serializedJson != null;
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.maestria.maestria_course_service.dto.response;
 
+import br.com.maestria.maestria_course_service.entity.Course;
 import lombok.Builder;
 import lombok.Data;
 
@@ -17,4 +18,16 @@ public class CourseResponse {
     private UUID instructorId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    public static CourseResponse from(Course course) {
+        return CourseResponse.builder()
+                .id(course.getId())
+                .title(course.getTitle())
+                .description(course.getDescription())
+                .price(course.getPrice())
+                .instructorId(course.getInstructorId())
+                .createdAt(course.getCreatedAt())
+                .updatedAt(course.getUpdatedAt())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package br.com.maestria.maestria_course_service.dto.response;
+
+import br.com.maestria.maestria_course_service.entity.CourseRepricingJob;
+import br.com.maestria.maestria_course_service.entity.RepricingJobStatus;
+import br.com.maestria.maestria_course_service.entity.RepricingRule;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+public class RepricingJobResponse {
+    private UUID id;
+    private UUID tenantId;
+    private UUID instructorId;
+    private RepricingRule rule;
+    private BigDecimal value;
+    private RepricingJobStatus status;
+    private long totalCourses;
+    private long processedCourses;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    public static RepricingJobResponse from(CourseRepricingJob job) {
+        return RepricingJobResponse.builder()
+                .id(job.getId())
+                .tenantId(job.getTenantId())
+                .instructorId(job.getInstructorId())
+                .rule(job.getRule())
+                .value(job.getRuleValue())
+                .status(job.getStatus())
+                .totalCourses(job.getTotalCourses())
+                .processedCourses(job.getProcessedCourses())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
@@ -1,11 +1,14 @@
 package br.com.maestria.maestria_course_service.entity;
 
+import br.com.maestria.maestria_course_service.entity.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -18,10 +21,12 @@ import java.util.UUID;
 @AllArgsConstructor
 @Entity
 @Table(name = "courses")
+@SQLDelete(sql = "UPDATE courses SET deleted_at = LOCALTIMESTAMP, updated_at = LOCALTIMESTAMP WHERE id = ?")
+@SQLRestriction("deleted_at IS NULL")
 public class Course {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false)
@@ -46,4 +51,6 @@ public class Course {
     @UpdateTimestamp
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    private LocalDateTime deletedAt;
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package br.com.maestria.maestria_course_service.entity;
+
+import br.com.maestria.maestria_course_service.entity.id.TimeOrderedUuid;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Job de reprecificação em massa. {@code lastCourseId} é o cursor da última faixa de ids já aplicada,
+ * gravado na mesma transação do {@code UPDATE} da faixa para que a retomada nunca reaplique a regra.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "course_repricing_jobs")
+public class CourseRepricingJob {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID tenantId;
+
+    private UUID instructorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private RepricingRule rule;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal ruleValue;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private RepricingJobStatus status;
+
+    @Column(nullable = false)
+    private long totalCourses;
+
+    @Column(nullable = false)
+    private long processedCourses;
+
+    private UUID lastCourseId;
+
+    @Column(columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private UUID createdBy;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,16 @@
+package br.com.maestria.maestria_course_service.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKeyId implements Serializable {
+    private UUID ownerId;
+    private String idempotencyKey;
+}
@@ -0,0 +1,8 @@
+package br.com.maestria.maestria_course_service.entity;
+
+public enum RepricingJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
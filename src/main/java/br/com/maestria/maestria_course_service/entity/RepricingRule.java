@@ -0,0 +1,8 @@
+package br.com.maestria.maestria_course_service.entity;
+
+public enum RepricingRule {
+    /** Desconto percentual sobre o preço atual, entre 0 e 100. */
+    PERCENTAGE_DISCOUNT,
+    /** Substitui o preço pelo valor informado. */
+    FIXED_PRICE
+}
@@ -0,0 +1,18 @@
+package br.com.maestria.maestria_course_service.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Gera o identificador como UUIDv7, ordenado pelo instante de criação, para que novas linhas sejam
+ * inseridas no fim do índice da chave primária em vez de em páginas aleatórias.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
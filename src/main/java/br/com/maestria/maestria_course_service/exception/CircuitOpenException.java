@@ -0,0 +1,7 @@
+package br.com.maestria.maestria_course_service.exception;
+
+public class CircuitOpenException extends ServiceUnavailableException {
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
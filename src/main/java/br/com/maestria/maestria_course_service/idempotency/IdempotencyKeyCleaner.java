@@ -0,0 +1,64 @@
+package br.com.maestria.maestria_course_service.idempotency;
+
+import br.com.maestria.maestria_course_service.repository.IdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Remove as chaves de idempotência expiradas em lotes, com pausa entre lotes.
+ */
+@Component
+@Slf4j
+public class IdempotencyKeyCleaner {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration pauseBetweenBatches;
+
+    public IdempotencyKeyCleaner(IdempotencyKeyRepository idempotencyKeyRepository,
+                                 @Value("${course.idempotency.cleanup.batch-size:1000}") int batchSize,
+                                 @Value("${course.idempotency.cleanup.max-batches-per-run:20}") int maxBatchesPerRun,
+                                 @Value("${course.idempotency.cleanup.pause-between-batches:100ms}") Duration pauseBetweenBatches) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pauseBetweenBatches = pauseBetweenBatches;
+    }
+
+    @Scheduled(fixedDelayString = "${course.idempotency.cleanup.interval-ms:300000}")
+    public int deleteExpired() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int deleted = idempotencyKeyRepository.deleteExpired(batchSize);
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("{} chaves de idempotência expiradas removidas", total);
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        if (pauseBetweenBatches.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatches.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.maestria.maestria_course_service.idempotency;
+
+import br.com.maestria.maestria_course_service.dto.request.CreateCourseRequest;
+import br.com.maestria.maestria_course_service.entity.Course;
+import br.com.maestria.maestria_course_service.entity.IdempotencyKey;
+import br.com.maestria.maestria_course_service.entity.IdempotencyKeyId;
+import br.com.maestria.maestria_course_service.exception.IdempotencyKeyMismatchException;
+import br.com.maestria.maestria_course_service.exception.InvalidRequestException;
+import br.com.maestria.maestria_course_service.repository.CourseRepository;
+import br.com.maestria.maestria_course_service.repository.IdempotencyKeyRepository;
+import br.com.maestria.maestria_course_service.service.CourseService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cria cursos sob uma {@code Idempotency-Key}: a chave é reservada, o curso criado e a resposta gravada na mesma
+ * transação, então retentativas do gateway recebem a resposta original sem executar a criação de novo.
+ */
+@Service
+@Slf4j
+public class IdempotentCourseCreator {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final CourseService courseService;
+    private final CourseRepository courseRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public IdempotentCourseCreator(IdempotencyKeyRepository idempotencyKeyRepository,
+                                   CourseService courseService,
+                                   CourseRepository courseRepository,
+                                   ObjectMapper objectMapper,
+                                   @Value("${course.idempotency.ttl:24h}") Duration ttl) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.courseService = courseService;
+        this.courseRepository = courseRepository;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    @Transactional
+    public Result createCourse(String idempotencyKey, CreateCourseRequest request, Jwt jwt) {
+        if (idempotencyKey.trim().isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException("Idempotency-Key deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres");
+        }
+        UUID ownerId = UUID.fromString(jwt.getSubject());
+        String fingerprint = fingerprint(request);
+
+        if (idempotencyKeyRepository.reserve(ownerId, idempotencyKey, fingerprint, ttl.toMillis()) == 1) {
+            Course course = courseService.createCourse(request, jwt);
+            courseRepository.flush();
+            idempotencyKeyRepository.complete(ownerId, idempotencyKey, course.getId(), write(course));
+            return new Result(course, false);
+        }
+
+        IdempotencyKey stored = idempotencyKeyRepository.findById(new IdempotencyKeyId(ownerId, idempotencyKey))
+                .orElseThrow(() -> new IllegalStateException("Idempotency-Key reservada sem registro: " + idempotencyKey));
+        if (!stored.getRequestFingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyMismatchException(
+                    "Idempotency-Key já utilizada com uma requisição diferente: " + idempotencyKey);
+        }
+        log.info("Repetindo a resposta da Idempotency-Key {} do usuário {} (curso {})",
+                idempotencyKey, ownerId, stored.getCourseId());
+        return new Result(read(stored.getResponseBody()), true);
+    }
+
+    private String fingerprint(CreateCourseRequest request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Não foi possível calcular a impressão digital da requisição", e);
+        }
+    }
+
+    private String write(Course course) {
+        try {
+            return objectMapper.writeValueAsString(course);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar o curso " + course.getId(), e);
+        }
+    }
+
+    private Course read(String responseBody) {
+        try {
+            return objectMapper.readValue(responseBody, Course.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Resposta armazenada inválida para a Idempotency-Key", e);
+        }
+    }
+
+    public static final class Result {
+        private final Course course;
+        private final boolean replayed;
+
+        Result(Course course, boolean replayed) {
+            this.course = course;
+            this.replayed = replayed;
+        }
+
+        public Course getCourse() {
+            return course;
+        }
+
+        public boolean isReplayed() {
+            return replayed;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.maestria.maestria_course_service.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Expõe a quantidade de comandos SQL e o tempo de banco de cada requisição no cabeçalho {@code Server-Timing}
+ * e registra as requisições que estouram o orçamento configurado ou repetem o mesmo comando (suspeita de N+1).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final int maxStatements;
+    private final Duration maxDbTime;
+    private final int repeatedStatementThreshold;
+
+    public QueryBudgetFilter(@Value("${course.query-budget.max-statements:10}") int maxStatements,
+                             @Value("${course.query-budget.max-db-time:250ms}") Duration maxDbTime,
+                             @Value("${course.query-budget.repeated-statement-threshold:5}") int repeatedStatementThreshold) {
+        this.maxStatements = maxStatements;
+        this.maxDbTime = maxDbTime;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryMetrics metrics = QueryMetrics.begin();
+        ServerTimingResponseWrapper wrappedResponse = new ServerTimingResponseWrapper(response, metrics);
+        try {
+            filterChain.doFilter(request, wrappedResponse);
+        } finally {
+            wrappedResponse.writeServerTiming();
+            QueryMetrics.end();
+            checkBudget(request, metrics);
+        }
+    }
+
+    private void checkBudget(HttpServletRequest request, QueryMetrics metrics) {
+        if (metrics.getStatementCount() > maxStatements || metrics.getDbTimeNanos() > maxDbTime.toNanos()) {
+            log.warn("Requisição {} {} excedeu o orçamento de banco: {} comandos SQL em {} ms (limite: {} comandos, {} ms)",
+                    request.getMethod(), request.getRequestURI(), metrics.getStatementCount(),
+                    formatMillis(metrics.getDbTimeMillis()), maxStatements, maxDbTime.toMillis());
+        }
+        for (Map.Entry<String, Integer> repeated : metrics.repeatedStatements(repeatedStatementThreshold).entrySet()) {
+            log.warn("Possível N+1 em {} {}: comando executado {} vezes: {}",
+                    request.getMethod(), request.getRequestURI(), repeated.getValue(), repeated.getKey());
+        }
+    }
+
+    static String serverTiming(QueryMetrics metrics) {
+        return "db;desc=\"" + metrics.getStatementCount() + " queries\";dur=" + formatMillis(metrics.getDbTimeMillis());
+    }
+
+    private static String formatMillis(double millis) {
+        return String.format(Locale.ROOT, "%.2f", millis);
+    }
+
+    /**
+     * O cabeçalho precisa ser escrito antes do commit da resposta; depois disso o container o descarta.
+     */
+    private static final class ServerTimingResponseWrapper extends OnCommittedResponseWrapper {
+
+        private final QueryMetrics metrics;
+        private boolean written;
+
+        ServerTimingResponseWrapper(HttpServletResponse response, QueryMetrics metrics) {
+            super(response);
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeServerTiming();
+        }
+
+        void writeServerTiming() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(SERVER_TIMING_HEADER, serverTiming(metrics));
+        }
+    }
+}
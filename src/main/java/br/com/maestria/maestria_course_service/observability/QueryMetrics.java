@@ -0,0 +1,66 @@
+package br.com.maestria.maestria_course_service.observability;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Contadores de SQL da requisição corrente. Só acumula enquanto houver um escopo aberto na thread,
+ * então chamadas fora de requisições HTTP (jobs agendados, listeners) não são contabilizadas.
+ */
+public final class QueryMetrics {
+
+    private static final ThreadLocal<QueryMetrics> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int statementCount;
+    private long dbTimeNanos;
+
+    private QueryMetrics() {
+    }
+
+    public static QueryMetrics begin() {
+        QueryMetrics metrics = new QueryMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        QueryMetrics metrics = CURRENT.get();
+        if (metrics == null) {
+            return;
+        }
+        metrics.statementCount++;
+        metrics.dbTimeNanos += elapsedNanos;
+        if (sql != null) {
+            metrics.executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getDbTimeNanos() {
+        return dbTimeNanos;
+    }
+
+    public double getDbTimeMillis() {
+        return dbTimeNanos / 1_000_000.0;
+    }
+
+    public Map<String, Integer> repeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : executionsBySql.entrySet()) {
+            if (entry.getValue() >= threshold) {
+                repeated.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return repeated.isEmpty() ? Collections.emptyMap() : repeated;
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.maestria.maestria_course_service.repository;
+
+import br.com.maestria.maestria_course_service.entity.ArchivedCourse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedCourseRepository extends JpaRepository<ArchivedCourse, UUID> {
+    List<ArchivedCourse> findByTenantIdOrderByDeletedAtDesc(UUID tenantId, Pageable pageable);
+
+    List<ArchivedCourse> findAllByOrderByDeletedAtDesc(Pageable pageable);
+}
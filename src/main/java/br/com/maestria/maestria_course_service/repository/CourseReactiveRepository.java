@@ -0,0 +1,57 @@
+package br.com.maestria.maestria_course_service.repository;
+
+import br.com.maestria.maestria_course_service.entity.Course;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public class CourseReactiveRepository {
+
+    private static final String SELECT_COURSES =
+            "SELECT id, title, description, price, tenant_id, instructor_id, created_at, updated_at FROM courses"
+                    + " WHERE deleted_at IS NULL";
+
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public CourseReactiveRepository(DatabaseClient databaseClient,
+                                    @Value("${course.reactive.fetch-size:250}") int fetchSize) {
+        this.databaseClient = databaseClient;
+        this.fetchSize = fetchSize;
+    }
+
+    public Flux<Course> findAll() {
+        return databaseClient.sql(SELECT_COURSES)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(CourseReactiveRepository::toCourse)
+                .all();
+    }
+
+    public Mono<Course> findById(UUID id) {
+        return databaseClient.sql(SELECT_COURSES + " AND id = :id")
+                .bind("id", id)
+                .map(CourseReactiveRepository::toCourse)
+                .one();
+    }
+
+    private static Course toCourse(Readable row) {
+        return Course.builder()
+                .id(row.get("id", UUID.class))
+                .title(row.get("title", String.class))
+                .description(row.get("description", String.class))
+                .price(row.get("price", BigDecimal.class))
+                .tenantId(row.get("tenant_id", UUID.class))
+                .instructorId(row.get("instructor_id", UUID.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -1,11 +1,49 @@
 package br.com.maestria.maestria_course_service.repository;
 
 import br.com.maestria.maestria_course_service.entity.Course;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, UUID> {
+    List<Course> findByTenantId(UUID tenantId);
+
+    List<Course> findByOrderByUpdatedAtDesc(Pageable pageable);
+
+    long countByTenantId(UUID tenantId);
+
+    long countByTenantIdAndInstructorId(UUID tenantId, UUID instructorId);
+
+    @Query(value = "SELECT * FROM courses WHERE id = ANY(:ids) AND deleted_at IS NULL", nativeQuery = true)
+    List<Course> findAllByIds(@Param("ids") UUID[] ids);
+
+    @Query(value = "SELECT * FROM courses WHERE tenant_id = ANY(:tenantIds) AND updated_at > :since ORDER BY updated_at",
+            nativeQuery = true)
+    List<Course> findChangedSinceIncludingDeleted(@Param("tenantIds") UUID[] tenantIds, @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Transactional
+    @Query(value = "WITH batch AS ("
+            + " SELECT tenant_id, id FROM courses WHERE deleted_at < :cutoff"
+            + " ORDER BY deleted_at LIMIT :batchSize FOR UPDATE SKIP LOCKED"
+            + "), moved AS ("
+            + " DELETE FROM courses c USING batch"
+            + " WHERE c.tenant_id = batch.tenant_id AND c.id = batch.id"
+            + " RETURNING c.*"
+            + ")"
+            + " INSERT INTO courses_archive (id, title, description, price, tenant_id, instructor_id,"
+            + " created_at, updated_at, deleted_at, archived_at)"
+            + " SELECT id, title, description, price, tenant_id, instructor_id,"
+            + " created_at, updated_at, deleted_at, LOCALTIMESTAMP FROM moved",
+            nativeQuery = true)
+    int archiveDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 }
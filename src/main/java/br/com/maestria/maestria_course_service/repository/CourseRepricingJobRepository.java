@@ -0,0 +1,56 @@
+package br.com.maestria.maestria_course_service.repository;
+
+import br.com.maestria.maestria_course_service.entity.CourseRepricingJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CourseRepricingJobRepository extends JpaRepository<CourseRepricingJob, UUID> {
+    List<CourseRepricingJob> findByTenantIdOrderByCreatedAtDesc(UUID tenantId, Pageable pageable);
+
+    List<CourseRepricingJob> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    @Query(value = "SELECT id FROM course_repricing_jobs"
+            + " WHERE status = 'PENDING'"
+            + " OR (status = 'RUNNING' AND updated_at < LOCALTIMESTAMP - :staleAfterMillis * INTERVAL '1 millisecond')"
+            + " ORDER BY created_at LIMIT :limit",
+            nativeQuery = true)
+    List<UUID> findResumableIds(@Param("staleAfterMillis") long staleAfterMillis, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE course_repricing_jobs SET status = 'RUNNING', updated_at = LOCALTIMESTAMP"
+            + " WHERE id = :id AND (status = 'PENDING'"
+            + " OR (status = 'RUNNING' AND updated_at < LOCALTIMESTAMP - :staleAfterMillis * INTERVAL '1 millisecond'))",
+            nativeQuery = true)
+    int claim(@Param("id") UUID id, @Param("staleAfterMillis") long staleAfterMillis);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE course_repricing_jobs SET status = 'COMPLETED', completed_at = LOCALTIMESTAMP,"
+            + " updated_at = LOCALTIMESTAMP WHERE id = :id AND status = 'RUNNING'",
+            nativeQuery = true)
+    int markCompleted(@Param("id") UUID id);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE course_repricing_jobs SET status = 'FAILED', error_message = :errorMessage,"
+            + " completed_at = LOCALTIMESTAMP, updated_at = LOCALTIMESTAMP WHERE id = :id AND status = 'RUNNING'",
+            nativeQuery = true)
+    int markFailed(@Param("id") UUID id, @Param("errorMessage") String errorMessage);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE course_repricing_jobs SET status = 'PENDING', updated_at = LOCALTIMESTAMP"
+            + " WHERE id = :id AND status = 'RUNNING'",
+            nativeQuery = true)
+    int release(@Param("id") UUID id);
+}
@@ -0,0 +1,55 @@
+package br.com.maestria.maestria_course_service.repository;
+
+import br.com.maestria.maestria_course_service.entity.IdempotencyKey;
+import br.com.maestria.maestria_course_service.entity.IdempotencyKeyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, IdempotencyKeyId> {
+
+    /**
+     * Reserva a chave para a transação corrente. Uma requisição concorrente com a mesma chave fica bloqueada
+     * no índice único até esta transação terminar; chaves expiradas ainda não removidas são reaproveitadas.
+     *
+     * @return 1 se a chave foi reservada, 0 se já existe uma chave válida
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO idempotency_keys (owner_id, idempotency_key, request_fingerprint, created_at, expires_at)"
+            + " VALUES (:ownerId, :idempotencyKey, :fingerprint, LOCALTIMESTAMP,"
+            + " LOCALTIMESTAMP + :ttlMillis * INTERVAL '1 millisecond')"
+            + " ON CONFLICT (owner_id, idempotency_key) DO UPDATE SET"
+            + " request_fingerprint = EXCLUDED.request_fingerprint, course_id = NULL, response_body = NULL,"
+            + " created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at"
+            + " WHERE idempotency_keys.expires_at < LOCALTIMESTAMP",
+            nativeQuery = true)
+    int reserve(@Param("ownerId") UUID ownerId,
+                @Param("idempotencyKey") String idempotencyKey,
+                @Param("fingerprint") String fingerprint,
+                @Param("ttlMillis") long ttlMillis);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE idempotency_keys SET course_id = :courseId, response_body = :responseBody"
+            + " WHERE owner_id = :ownerId AND idempotency_key = :idempotencyKey",
+            nativeQuery = true)
+    int complete(@Param("ownerId") UUID ownerId,
+                 @Param("idempotencyKey") String idempotencyKey,
+                 @Param("courseId") UUID courseId,
+                 @Param("responseBody") String responseBody);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM idempotency_keys WHERE (owner_id, idempotency_key) IN ("
+            + " SELECT owner_id, idempotency_key FROM idempotency_keys WHERE expires_at < LOCALTIMESTAMP"
+            + " ORDER BY expires_at LIMIT :batchSize FOR UPDATE SKIP LOCKED)",
+            nativeQuery = true)
+    int deleteExpired(@Param("batchSize") int batchSize);
+}
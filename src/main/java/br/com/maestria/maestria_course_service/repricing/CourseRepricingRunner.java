@@ -0,0 +1,286 @@
+package br.com.maestria.maestria_course_service.repricing;
+
+import br.com.maestria.maestria_course_service.cache.CourseInvalidationBus;
+import br.com.maestria.maestria_course_service.entity.RepricingRule;
+import br.com.maestria.maestria_course_service.repository.CourseRepricingJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executa os jobs de reprecificação em faixas de ids ({@code id > cursor ORDER BY id LIMIT n}), cada uma num
+ * único {@code UPDATE} em transação curta. A linha do job é bloqueada na mesma transação e o cursor avança junto
+ * com os preços, então um job retomado por outro nó (ou após reinício) continua exatamente de onde parou.
+ */
+@Component
+@Slf4j
+public class CourseRepricingRunner {
+
+    private static final UUID MIN_COURSE_ID = new UUID(0L, 0L);
+    private static final int SWEEP_LIMIT = 100;
+
+    private final CourseRepricingJobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CourseInvalidationBus invalidationBus;
+    private final int chunkSize;
+    private final Duration pauseBetweenChunks;
+    private final Duration staleAfter;
+    private final Semaphore slots;
+    private final ExecutorService executor;
+    private final Set<UUID> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public CourseRepricingRunner(CourseRepricingJobRepository jobRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 CourseInvalidationBus invalidationBus,
+                                 @Value("${course.repricing.chunk-size:500}") int chunkSize,
+                                 @Value("${course.repricing.pause-between-chunks:50ms}") Duration pauseBetweenChunks,
+                                 @Value("${course.repricing.stale-after:2m}") Duration staleAfter,
+                                 @Value("${course.repricing.max-concurrent-jobs:2}") int maxConcurrentJobs) {
+        this.jobRepository = jobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.invalidationBus = invalidationBus;
+        this.chunkSize = chunkSize;
+        this.pauseBetweenChunks = pauseBetweenChunks;
+        this.staleAfter = staleAfter;
+        this.slots = new Semaphore(maxConcurrentJobs);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrentJobs, runnable -> {
+            Thread thread = new Thread(runnable, "course-repricing-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Tenta assumir o job e executá-lo em segundo plano. Retorna {@code false} se não houver vaga ou se outro nó
+     * já o estiver executando; nesse caso ele fica pendente para a próxima varredura.
+     */
+    public boolean schedule(UUID jobId) {
+        if (!runningJobs.add(jobId)) {
+            return false;
+        }
+        if (!slots.tryAcquire()) {
+            runningJobs.remove(jobId);
+            return false;
+        }
+        boolean submitted = false;
+        try {
+            if (jobRepository.claim(jobId, staleAfter.toMillis()) == 0) {
+                return false;
+            }
+            executor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    runningJobs.remove(jobId);
+                    slots.release();
+                }
+            });
+            submitted = true;
+            return true;
+        } catch (RejectedExecutionException e) {
+            jobRepository.release(jobId);
+            return false;
+        } finally {
+            if (!submitted) {
+                runningJobs.remove(jobId);
+                slots.release();
+            }
+        }
+    }
+
+    /**
+     * Retoma jobs pendentes e jobs em execução cujo nó parou de reportar progresso (reinício, queda do pod).
+     */
+    @Scheduled(fixedDelayString = "${course.repricing.sweep-interval-ms:30000}")
+    public void resumePending() {
+        List<UUID> jobIds;
+        try {
+            jobIds = jobRepository.findResumableIds(staleAfter.toMillis(), SWEEP_LIMIT);
+        } catch (DataAccessException e) {
+            log.warn("Falha ao buscar jobs de reprecificação pendentes", e);
+            return;
+        }
+        for (UUID jobId : jobIds) {
+            if (slots.availablePermits() == 0) {
+                return;
+            }
+            try {
+                if (schedule(jobId)) {
+                    log.info("Job de reprecificação {} retomado", jobId);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Falha ao retomar o job de reprecificação {}", jobId, e);
+                return;
+            }
+        }
+    }
+
+    void run(UUID jobId) {
+        log.info("Executando o job de reprecificação {}", jobId);
+        try {
+            while (true) {
+                if (Thread.currentThread().isInterrupted()) {
+                    releaseQuietly(jobId);
+                    return;
+                }
+                Integer updated = transactionTemplate.execute(status -> applyNextChunk(jobId));
+                if (updated == null) {
+                    log.info("Job de reprecificação {} não está mais em execução neste nó", jobId);
+                    return;
+                }
+                if (updated < chunkSize) {
+                    jobRepository.markCompleted(jobId);
+                    log.info("Job de reprecificação {} concluído", jobId);
+                    return;
+                }
+                if (!pause()) {
+                    releaseQuietly(jobId);
+                    return;
+                }
+            }
+        } catch (TransientDataAccessException | DataAccessResourceFailureException | CannotCreateTransactionException e) {
+            log.warn("Falha transitória no job de reprecificação {}; será retomado", jobId, e);
+            releaseQuietly(jobId);
+        } catch (RuntimeException e) {
+            log.error("Job de reprecificação {} falhou", jobId, e);
+            try {
+                jobRepository.markFailed(jobId, e.getMessage());
+            } catch (DataAccessException markFailure) {
+                log.warn("Não foi possível marcar o job de reprecificação {} como falho", jobId, markFailure);
+            }
+        }
+    }
+
+    private Integer applyNextChunk(UUID jobId) {
+        List<JobCursor> cursors = jdbcTemplate.query(
+                "SELECT tenant_id, instructor_id, rule, rule_value, last_course_id, created_at"
+                        + " FROM course_repricing_jobs WHERE id = ? AND status = 'RUNNING' FOR UPDATE",
+                (rs, rowNum) -> new JobCursor(
+                        rs.getObject("tenant_id", UUID.class),
+                        rs.getObject("instructor_id", UUID.class),
+                        RepricingRule.valueOf(rs.getString("rule")),
+                        rs.getBigDecimal("rule_value"),
+                        rs.getObject("last_course_id", UUID.class),
+                        rs.getTimestamp("created_at")),
+                jobId);
+        if (cursors.isEmpty()) {
+            return null;
+        }
+        JobCursor cursor = cursors.get(0);
+
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("WITH chunk AS (")
+                .append(" SELECT tenant_id, id FROM courses")
+                .append(" WHERE tenant_id = ? AND id > ? AND deleted_at IS NULL AND created_at <= ?");
+        args.add(cursor.tenantId);
+        args.add(cursor.lastCourseId == null ? MIN_COURSE_ID : cursor.lastCourseId);
+        args.add(cursor.createdAt);
+        if (cursor.instructorId != null) {
+            sql.append(" AND instructor_id = ?");
+            args.add(cursor.instructorId);
+        }
+        sql.append(" ORDER BY id LIMIT ? FOR UPDATE")
+                .append("), updated AS (")
+                .append(" UPDATE courses c SET price = ").append(priceExpression(cursor.rule))
+                .append(", updated_at = LOCALTIMESTAMP")
+                .append(" FROM chunk WHERE c.tenant_id = chunk.tenant_id AND c.id = chunk.id")
+                .append(" RETURNING c.id")
+                .append(")")
+                .append(" SELECT id FROM updated ORDER BY id");
+        args.add(chunkSize);
+        args.add(cursor.ruleValue);
+
+        List<UUID> courseIds = jdbcTemplate.queryForList(sql.toString(), UUID.class, args.toArray());
+        if (!courseIds.isEmpty()) {
+            jdbcTemplate.update("UPDATE course_repricing_jobs SET last_course_id = ?,"
+                            + " processed_courses = processed_courses + ?, updated_at = LOCALTIMESTAMP WHERE id = ?",
+                    courseIds.get(courseIds.size() - 1), courseIds.size(), jobId);
+            invalidationBus.invalidate(courseIds);
+        }
+        return courseIds.size();
+    }
+
+    private static String priceExpression(RepricingRule rule) {
+        switch (rule) {
+            case PERCENTAGE_DISCOUNT:
+                return "ROUND(c.price * (100 - ?) / 100, 2)";
+            case FIXED_PRICE:
+                return "?";
+            default:
+                throw new IllegalStateException("Regra de reprecificação não suportada: " + rule);
+        }
+    }
+
+    private void releaseQuietly(UUID jobId) {
+        try {
+            jobRepository.release(jobId);
+        } catch (DataAccessException e) {
+            log.warn("Job de reprecificação {} ficará em execução até expirar e ser retomado", jobId, e);
+        }
+    }
+
+    private boolean pause() {
+        if (pauseBetweenChunks.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenChunks.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static final class JobCursor {
+        private final UUID tenantId;
+        private final UUID instructorId;
+        private final RepricingRule rule;
+        private final BigDecimal ruleValue;
+        private final UUID lastCourseId;
+        private final Timestamp createdAt;
+
+        private JobCursor(UUID tenantId, UUID instructorId, RepricingRule rule, BigDecimal ruleValue,
+                          UUID lastCourseId, Timestamp createdAt) {
+            this.tenantId = tenantId;
+            this.instructorId = instructorId;
+            this.rule = rule;
+            this.ruleValue = ruleValue;
+            this.lastCourseId = lastCourseId;
+            this.createdAt = createdAt;
+        }
+    }
+}
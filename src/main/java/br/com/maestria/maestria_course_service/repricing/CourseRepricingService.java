@@ -0,0 +1,99 @@
+package br.com.maestria.maestria_course_service.repricing;
+
+import br.com.maestria.maestria_course_service.dto.request.CreateRepricingJobRequest;
+import br.com.maestria.maestria_course_service.entity.CourseRepricingJob;
+import br.com.maestria.maestria_course_service.entity.RepricingJobStatus;
+import br.com.maestria.maestria_course_service.entity.RepricingRule;
+import br.com.maestria.maestria_course_service.exception.InvalidRequestException;
+import br.com.maestria.maestria_course_service.exception.ResourceNotFoundException;
+import br.com.maestria.maestria_course_service.repository.CourseRepository;
+import br.com.maestria.maestria_course_service.repository.CourseRepricingJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class CourseRepricingService {
+
+    private static final BigDecimal MAX_DISCOUNT = new BigDecimal("100");
+    /** Maior valor que cabe em {@code NUMERIC(10, 2)}, tipo de {@code courses.price} e {@code rule_value}. */
+    private static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+    private static final int PRICE_SCALE = 2;
+
+    private final CourseRepricingJobRepository jobRepository;
+    private final CourseRepository courseRepository;
+    private final CourseRepricingRunner runner;
+
+    public CourseRepricingService(CourseRepricingJobRepository jobRepository,
+                                  CourseRepository courseRepository,
+                                  CourseRepricingRunner runner) {
+        this.jobRepository = jobRepository;
+        this.courseRepository = courseRepository;
+        this.runner = runner;
+    }
+
+    public CourseRepricingJob createJob(CreateRepricingJobRequest request, Jwt jwt) {
+        validate(request);
+        long totalCourses = request.getInstructorId() == null
+                ? courseRepository.countByTenantId(request.getTenantId())
+                : courseRepository.countByTenantIdAndInstructorId(request.getTenantId(), request.getInstructorId());
+
+        CourseRepricingJob job = jobRepository.save(CourseRepricingJob.builder()
+                .tenantId(request.getTenantId())
+                .instructorId(request.getInstructorId())
+                .rule(request.getRule())
+                .ruleValue(request.getValue())
+                .status(RepricingJobStatus.PENDING)
+                .totalCourses(totalCourses)
+                .createdBy(UUID.fromString(jwt.getSubject()))
+                .build());
+        log.info("Job de reprecificação {} criado por {} para {} cursos do tenant {}",
+                job.getId(), jwt.getSubject(), totalCourses, job.getTenantId());
+
+        try {
+            runner.schedule(job.getId());
+        } catch (DataAccessException e) {
+            log.warn("Job de reprecificação {} ficará pendente até a próxima varredura", job.getId(), e);
+        }
+        return job;
+    }
+
+    public CourseRepricingJob getJob(UUID jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job de reprecificação não encontrado com o ID: " + jobId));
+    }
+
+    public List<CourseRepricingJob> findJobs(UUID tenantId, Pageable pageable) {
+        return tenantId == null
+                ? jobRepository.findAllByOrderByCreatedAtDesc(pageable)
+                : jobRepository.findByTenantIdOrderByCreatedAtDesc(tenantId, pageable);
+    }
+
+    private void validate(CreateRepricingJobRequest request) {
+        if (request.getTenantId() == null) {
+            throw new InvalidRequestException("Informe o tenant a ser reprecificado");
+        }
+        if (request.getRule() == null || request.getValue() == null) {
+            throw new InvalidRequestException("Informe a regra e o valor da reprecificação");
+        }
+        if (request.getValue().signum() < 0) {
+            throw new InvalidRequestException("O valor da reprecificação não pode ser negativo");
+        }
+        if (request.getValue().stripTrailingZeros().scale() > PRICE_SCALE
+                || request.getValue().compareTo(MAX_PRICE) > 0) {
+            throw new InvalidRequestException(
+                    "O valor da reprecificação deve ter no máximo 2 casas decimais e não passar de " + MAX_PRICE.toPlainString());
+        }
+        if (request.getRule() == RepricingRule.PERCENTAGE_DISCOUNT
+                && (request.getValue().signum() == 0 || request.getValue().compareTo(MAX_DISCOUNT) > 0)) {
+            throw new InvalidRequestException("O desconto percentual deve estar entre 0 e 100");
+        }
+    }
+}
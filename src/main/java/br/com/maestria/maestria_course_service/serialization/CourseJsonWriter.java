@@ -0,0 +1,170 @@
+package br.com.maestria.maestria_course_service.serialization;
+
+import br.com.maestria.maestria_course_service.entity.Course;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Escreve cursos diretamente num {@link JsonGenerator}, com o mesmo formato que o Jackson produz para
+ * {@code CourseResponse}, sem criar DTOs nem Strings intermediárias para UUIDs, preços e datas.
+ * Em geradores binários (CBOR) os UUIDs saem como 16 bytes e os preços como decimais nativos, como no Jackson.
+ */
+public class CourseJsonWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final JsonGenerator generator;
+    private final boolean binary;
+    private final char[] buffer = new char[40];
+    private final byte[] uuidBytes = new byte[16];
+
+    public CourseJsonWriter(JsonGenerator generator) {
+        this.generator = generator;
+        this.binary = generator.canWriteBinaryNatively();
+    }
+
+    public void writeCourses(List<Course> courses) throws IOException {
+        generator.writeStartArray(courses, courses.size());
+        for (Course course : courses) {
+            writeCourse(course);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeCourse(Course course) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName("id");
+        writeUuid(course.getId());
+        generator.writeFieldName("title");
+        generator.writeString(course.getTitle());
+        generator.writeFieldName("description");
+        generator.writeString(course.getDescription());
+        generator.writeFieldName("price");
+        writeDecimal(course.getPrice());
+        generator.writeFieldName("instructorId");
+        writeUuid(course.getInstructorId());
+        generator.writeFieldName("createdAt");
+        writeDateTime(course.getCreatedAt());
+        generator.writeFieldName("updatedAt");
+        writeDateTime(course.getUpdatedAt());
+        generator.writeEndObject();
+    }
+
+    private void writeUuid(UUID value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        long msb = value.getMostSignificantBits();
+        long lsb = value.getLeastSignificantBits();
+        if (binary) {
+            for (int i = 0; i < 8; i++) {
+                uuidBytes[i] = (byte) (msb >>> (56 - 8 * i));
+                uuidBytes[8 + i] = (byte) (lsb >>> (56 - 8 * i));
+            }
+            generator.writeBinary(uuidBytes, 0, uuidBytes.length);
+            return;
+        }
+        writeHex(msb >>> 32, 8, 0);
+        buffer[8] = '-';
+        writeHex(msb >>> 16, 4, 9);
+        buffer[13] = '-';
+        writeHex(msb, 4, 14);
+        buffer[18] = '-';
+        writeHex(lsb >>> 48, 4, 19);
+        buffer[23] = '-';
+        writeHex(lsb, 12, 24);
+        generator.writeString(buffer, 0, 36);
+    }
+
+    private void writeHex(long value, int digits, int offset) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private void writeDecimal(BigDecimal value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        int scale = value.scale();
+        if (binary || scale < 0 || scale > 18 || value.precision() - scale - 1 < -6) {
+            generator.writeNumber(value);
+            return;
+        }
+        BigInteger unscaledValue = value.unscaledValue();
+        if (unscaledValue.bitLength() > 62) {
+            generator.writeNumber(value);
+            return;
+        }
+        long unscaled = unscaledValue.longValue();
+        int end = buffer.length;
+        int pos = end;
+        long magnitude = Math.abs(unscaled);
+        for (int i = 0; i < scale; i++) {
+            buffer[--pos] = (char) ('0' + magnitude % 10);
+            magnitude /= 10;
+        }
+        if (scale > 0) {
+            buffer[--pos] = '.';
+        }
+        do {
+            buffer[--pos] = (char) ('0' + magnitude % 10);
+            magnitude /= 10;
+        } while (magnitude > 0);
+        if (unscaled < 0) {
+            buffer[--pos] = '-';
+        }
+        generator.writeNumber(buffer, pos, end - pos);
+    }
+
+    private void writeDateTime(LocalDateTime value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            generator.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        writeDigits(year, 4, 0);
+        buffer[4] = '-';
+        writeDigits(value.getMonthValue(), 2, 5);
+        buffer[7] = '-';
+        writeDigits(value.getDayOfMonth(), 2, 8);
+        buffer[10] = 'T';
+        writeDigits(value.getHour(), 2, 11);
+        buffer[13] = ':';
+        writeDigits(value.getMinute(), 2, 14);
+        buffer[16] = ':';
+        writeDigits(value.getSecond(), 2, 17);
+        int length = 19;
+        int nano = value.getNano();
+        if (nano > 0) {
+            buffer[length++] = '.';
+            writeDigits(nano, 9, length);
+            length += 9;
+            while (buffer[length - 1] == '0') {
+                length--;
+            }
+        }
+        generator.writeString(buffer, 0, length);
+    }
+
+    private void writeDigits(int value, int digits, int offset) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
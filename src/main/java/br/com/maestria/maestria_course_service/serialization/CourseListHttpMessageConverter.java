@@ -0,0 +1,75 @@
+package br.com.maestria.maestria_course_service.serialization;
+
+import br.com.maestria.maestria_course_service.dto.response.CourseListResponse;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+@Component
+public class CourseListHttpMessageConverter extends AbstractHttpMessageConverter<CourseListResponse> {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+
+    public CourseListHttpMessageConverter(ObjectMapper objectMapper,
+                                          MappingJackson2CborHttpMessageConverter cborHttpMessageConverter) {
+        super(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR);
+        this.objectMapper = objectMapper;
+        this.cborMapper = cborHttpMessageConverter.getObjectMapper();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CourseListResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected CourseListResponse readInternal(Class<? extends CourseListResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("CourseListResponse é somente para escrita", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(CourseListResponse response, MediaType contentType) {
+        return response.isPreSerialized() ? (long) response.getSerializedJson().remaining() : null;
+    }
+
+    @Override
+    protected void writeInternal(CourseListResponse response, HttpOutputMessage outputMessage) throws IOException {
+        boolean cbor = MediaType.APPLICATION_CBOR.isCompatibleWith(outputMessage.getHeaders().getContentType());
+        if (response.isPreSerialized()) {
+            if (cbor) {
+                throw new HttpMessageNotWritableException("Snapshot pré-serializado só pode ser escrito como JSON");
+            }
+            ByteBuffer json = response.getSerializedJson().duplicate();
+            WritableByteChannel channel = Channels.newChannel(outputMessage.getBody());
+            while (json.hasRemaining()) {
+                channel.write(json);
+            }
+            return;
+        }
+        ObjectMapper mapper = cbor ? cborMapper : objectMapper;
+        try (JsonGenerator generator = mapper.getFactory()
+                .createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            new CourseJsonWriter(generator).writeCourses(response.getCourses());
+        }
+    }
+}
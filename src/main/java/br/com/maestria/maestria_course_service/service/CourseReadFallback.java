@@ -0,0 +1,112 @@
+package br.com.maestria.maestria_course_service.service;
+
+import br.com.maestria.maestria_course_service.cache.LastKnownGoodCache;
+import br.com.maestria.maestria_course_service.exception.ServiceUnavailableException;
+import br.com.maestria.maestria_course_service.support.CircuitBreaker;
+import br.com.maestria.maestria_course_service.support.StaleReads;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Protege as leituras de curso com um {@link CircuitBreaker} em volta da chamada ao repositório
+ * ({@link #callDatabase}); só erros de acesso a dados e chamadas lentas contam como falha. Quando o banco falha
+ * ou o circuito está aberto, {@link #read} devolve o último valor bom conhecido, marca a requisição como
+ * desatualizada e agenda uma atualização em segundo plano, limitada a poucas threads e a uma fila curta.
+ */
+@Component
+@Slf4j
+public class CourseReadFallback {
+
+    private final CircuitBreaker circuitBreaker;
+    private final LastKnownGoodCache lastKnownGood;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final Set<String> pendingRefreshes = ConcurrentHashMap.newKeySet();
+
+    public CourseReadFallback(LastKnownGoodCache lastKnownGood,
+                              @Value("${course.read.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                              @Value("${course.read.circuit-breaker.open-duration:10s}") Duration openDuration,
+                              @Value("${course.read.circuit-breaker.slow-call-threshold:2s}") Duration slowCallThreshold,
+                              @Value("${course.read.stale.refresh-threads:2}") int refreshThreads,
+                              @Value("${course.read.stale.refresh-queue-capacity:100}") int refreshQueueCapacity) {
+        this.lastKnownGood = lastKnownGood;
+        this.circuitBreaker = new CircuitBreaker("course-reads", failureThreshold, openDuration, slowCallThreshold,
+                DataAccessException.class::isInstance);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(refreshQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "course-stale-refresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Executa a chamada ao banco sob o circuito. Deve envolver apenas o acesso ao repositório, e não a espera
+     * de quem aguarda uma leitura coalescida.
+     */
+    public <V> V callDatabase(Supplier<V> call) {
+        return circuitBreaker.execute(call);
+    }
+
+    public <V> V read(String key, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            lastKnownGood.put(key, value);
+            return value;
+        } catch (DataAccessException | ServiceUnavailableException e) {
+            Optional<LastKnownGoodCache.Entry<V>> stale = lastKnownGood.get(key);
+            if (!stale.isPresent()) {
+                throw e;
+            }
+            log.warn("Servindo dado desatualizado para {} (carregado em {}): {}", key, stale.get().getLoadedAt(), e.getMessage());
+            StaleReads.mark(stale.get().getLoadedAt());
+            scheduleRefresh(key, loader);
+            return stale.get().getValue();
+        }
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private <V> void scheduleRefresh(String key, Supplier<V> loader) {
+        if (!pendingRefreshes.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    lastKnownGood.put(key, loader.get());
+                    log.info("Leitura {} atualizada em segundo plano", key);
+                } catch (RuntimeException e) {
+                    log.debug("Atualização em segundo plano de {} falhou: {}", key, e.getMessage());
+                } finally {
+                    pendingRefreshes.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingRefreshes.remove(key);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
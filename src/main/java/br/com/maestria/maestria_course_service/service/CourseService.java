@@ -6,7 +6,9 @@ import br.com.maestria.maestria_course_service.dto.request.UpdateCourseRequest;
 import br.com.maestria.maestria_course_service.entity.Course;
 import org.springframework.security.oauth2.jwt.Jwt;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,6 +16,8 @@ public interface CourseService {
     Course createCourse(CreateCourseRequest createCourseRequest, Jwt jwt);
     Optional<Course> findById(UUID courseId);
     List<Course> findAll();
+    List<Course> findAllByTenant(UUID tenantId);
+    Map<UUID, Course> findAllByIds(Collection<UUID> courseIds);
     Course updateCourse(UUID courseId, UpdateCourseRequest updateCourseRequest, Jwt jwt);
     void deleteCourse(UUID courseId, Jwt jwt);
 }
\ No newline at end of file
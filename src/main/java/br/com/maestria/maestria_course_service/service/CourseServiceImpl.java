@@ -1,17 +1,27 @@
 package br.com.maestria.maestria_course_service.service;
 
+import br.com.maestria.maestria_course_service.cache.CourseCache;
+import br.com.maestria.maestria_course_service.cache.CourseInvalidationBus;
+import br.com.maestria.maestria_course_service.cache.LastKnownGoodCache;
 import br.com.maestria.maestria_course_service.dto.request.CreateCourseRequest;
 import br.com.maestria.maestria_course_service.dto.request.UpdateCourseRequest;
 import br.com.maestria.maestria_course_service.entity.Course;
 import br.com.maestria.maestria_course_service.exception.ResourceNotFoundException;
 import br.com.maestria.maestria_course_service.repository.CourseRepository;
+import br.com.maestria.maestria_course_service.support.SingleFlight;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,10 +29,26 @@ import java.util.UUID;
 @Slf4j
 public class CourseServiceImpl implements CourseService{
 
-    private final CourseRepository courseRepository;
+    private static final String ALL_COURSES_KEY = "all";
 
-    public CourseServiceImpl(CourseRepository courseRepository) {
+    private final CourseRepository courseRepository;
+    private final CourseCache courseCache;
+    private final CourseInvalidationBus courseInvalidationBus;
+    private final SingleFlight<UUID, Optional<Course>> courseByIdReads;
+    private final SingleFlight<Object, List<Course>> courseListReads;
+    private final CourseReadFallback courseReadFallback;
+
+    public CourseServiceImpl(CourseRepository courseRepository,
+                             CourseCache courseCache,
+                             CourseInvalidationBus courseInvalidationBus,
+                             CourseReadFallback courseReadFallback,
+                             @Value("${course.read.coalescing.wait-timeout:2s}") Duration coalescingWaitTimeout) {
         this.courseRepository = courseRepository;
+        this.courseCache = courseCache;
+        this.courseInvalidationBus = courseInvalidationBus;
+        this.courseReadFallback = courseReadFallback;
+        this.courseByIdReads = new SingleFlight<>(coalescingWaitTimeout);
+        this.courseListReads = new SingleFlight<>(coalescingWaitTimeout);
     }
 
     @Override
@@ -44,23 +70,78 @@ public class CourseServiceImpl implements CourseService{
                 .build();
 
         Course savedCourse = courseRepository.save(newCourse);
+        courseInvalidationBus.invalidate(savedCourse.getId());
         log.info("Curso salvo com sucesso! ID: {}", savedCourse.getId());
 
         return savedCourse;
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<Course> findById(UUID courseId) {
         log.info("Buscando curso pelo ID: {}", courseId);
-        return courseRepository.findById(courseId);
+        Optional<Course> cachedCourse = courseCache.get(courseId);
+        if (cachedCourse.isPresent()) {
+            return cachedCourse;
+        }
+        return courseReadFallback.read(LastKnownGoodCache.courseKey(courseId), () -> courseByIdReads.execute(courseId, () -> {
+            long generation = courseCache.currentGeneration();
+            Optional<Course> course = courseReadFallback.callDatabase(() -> courseRepository.findById(courseId));
+            course.ifPresent(found -> courseCache.put(found, generation));
+            return course;
+        }));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<Course> findAll() {
         log.info("Buscando todos os cursos");
-        return courseRepository.findAll();
+        Optional<List<Course>> cachedCourses = courseCache.getAll();
+        if (cachedCourses.isPresent()) {
+            return cachedCourses.get();
+        }
+        return courseReadFallback.read(ALL_COURSES_KEY, () -> courseListReads.execute(ALL_COURSES_KEY, () -> {
+            long generation = courseCache.currentGeneration();
+            List<Course> courses = courseReadFallback.callDatabase(courseRepository::findAll);
+            courseCache.putAll(courses, generation);
+            return courses;
+        }));
+    }
+
+    @Override
+    public List<Course> findAllByTenant(UUID tenantId) {
+        log.info("Buscando os cursos do tenant: {}", tenantId);
+        Optional<List<Course>> cachedCourses = courseCache.getByTenant(tenantId);
+        if (cachedCourses.isPresent()) {
+            return cachedCourses.get();
+        }
+        return courseReadFallback.read(LastKnownGoodCache.tenantKey(tenantId), () -> courseListReads.execute(tenantId, () -> {
+            long generation = courseCache.currentGeneration();
+            List<Course> courses = courseReadFallback.callDatabase(() -> courseRepository.findByTenantId(tenantId));
+            courseCache.putByTenant(tenantId, courses, generation);
+            return courses;
+        }));
+    }
+
+    @Override
+    public Map<UUID, Course> findAllByIds(Collection<UUID> courseIds) {
+        Map<UUID, Course> courses = new HashMap<>();
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID courseId : courseIds) {
+            Optional<Course> cachedCourse = courseCache.get(courseId);
+            if (cachedCourse.isPresent()) {
+                courses.put(courseId, cachedCourse.get());
+            } else {
+                missingIds.add(courseId);
+            }
+        }
+        log.info("Buscando {} cursos em lote ({} vindos do cache)", courseIds.size(), courses.size());
+        if (!missingIds.isEmpty()) {
+            long generation = courseCache.currentGeneration();
+            for (Course course : courseRepository.findAllByIds(missingIds.toArray(new UUID[0]))) {
+                courseCache.put(course, generation);
+                courses.put(course.getId(), course);
+            }
+        }
+        return courses;
     }
 
     @Override
@@ -76,6 +157,7 @@ public class CourseServiceImpl implements CourseService{
         existingCourse.setPrice(request.getPrice());
 
         Course updatedCourse = courseRepository.save(existingCourse);
+        courseInvalidationBus.invalidate(courseId);
         log.info("Curso atualizado com sucesso! ID: {}", updatedCourse.getId());
         return updatedCourse;
     }
@@ -87,6 +169,7 @@ public class CourseServiceImpl implements CourseService{
         log.info("Utilizador {} a tentar apagar o curso {}", jwt.getSubject(), courseId);
 
         courseRepository.deleteById(courseId);
+        courseInvalidationBus.invalidateDeleted(courseId);
         log.info("Curso apagado com sucesso! ID: {}", courseId);
     }
 
@@ -0,0 +1,12 @@
+package br.com.maestria.maestria_course_service.service;
+
+import br.com.maestria.maestria_course_service.entity.Course;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveCourseService {
+    Mono<Course> findById(UUID courseId);
+    Flux<Course> findAll();
+}
@@ -0,0 +1,33 @@
+package br.com.maestria.maestria_course_service.service;
+
+import br.com.maestria.maestria_course_service.entity.Course;
+import br.com.maestria.maestria_course_service.repository.CourseReactiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class ReactiveCourseServiceImpl implements ReactiveCourseService {
+
+    private final CourseReactiveRepository courseReactiveRepository;
+
+    public ReactiveCourseServiceImpl(CourseReactiveRepository courseReactiveRepository) {
+        this.courseReactiveRepository = courseReactiveRepository;
+    }
+
+    @Override
+    public Mono<Course> findById(UUID courseId) {
+        log.info("Buscando curso pelo ID (reativo): {}", courseId);
+        return courseReactiveRepository.findById(courseId);
+    }
+
+    @Override
+    public Flux<Course> findAll() {
+        log.info("Buscando todos os cursos (reativo)");
+        return courseReactiveRepository.findAll();
+    }
+}
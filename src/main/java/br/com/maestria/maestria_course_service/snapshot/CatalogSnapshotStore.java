@@ -0,0 +1,362 @@
+package br.com.maestria.maestria_course_service.snapshot;
+
+import br.com.maestria.maestria_course_service.entity.Course;
+import br.com.maestria.maestria_course_service.exception.ServiceUnavailableException;
+import br.com.maestria.maestria_course_service.repository.CourseRepository;
+import br.com.maestria.maestria_course_service.serialization.CourseJsonWriter;
+import br.com.maestria.maestria_course_service.support.SingleFlight;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Catálogo público por tenant servido de arquivos mapeados em memória. O primeiro pedido de um tenant com cursos
+ * materializa o catálogo; depois disso uma tarefa agendada busca só as linhas com {@code updated_at} posterior à
+ * última leitura (com uma folga para transações que confirmam atrasadas), incluindo as excluídas logicamente, e
+ * regrava o arquivo copiando os trechos inalterados. Tenants sem pedidos por {@code idle-timeout} são descartados,
+ * e ao atingir {@code max-tenants} o menos usado recentemente dá lugar ao novo; em ambos os casos o arquivo é apagado.
+ * Catálogos maiores que {@code max-file-bytes} (no máximo 2 GiB, limite de um arquivo mapeado) não são mantidos: o
+ * tenant passa a ser servido pelo banco.
+ */
+@Component
+@Slf4j
+public class CatalogSnapshotStore {
+
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] SEPARATOR = {','};
+    private static final byte[] ARRAY_END = {']'};
+
+    private final CourseRepository courseRepository;
+    private final JsonFactory jsonFactory;
+    private final boolean enabled;
+    private final Path directory;
+    private final int maxTenants;
+    private final long maxFileBytes;
+    private final Duration overlap;
+    private final long idleTimeoutNanos;
+    private final ConcurrentMap<UUID, TenantCatalogSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Set<UUID> oversizedTenants = ConcurrentHashMap.newKeySet();
+    private final SingleFlight<UUID, TenantCatalogSnapshot> builds;
+    private final AtomicLong fileSequence = new AtomicLong();
+
+    public CatalogSnapshotStore(CourseRepository courseRepository,
+                                ObjectMapper objectMapper,
+                                @Value("${course.snapshot.enabled:false}") boolean enabled,
+                                @Value("${course.snapshot.directory:${java.io.tmpdir}/maestria-course-snapshots}") String directory,
+                                @Value("${course.snapshot.max-tenants:1000}") int maxTenants,
+                                @Value("${course.snapshot.max-file-bytes:2147483647}") long maxFileBytes,
+                                @Value("${course.snapshot.overlap:10s}") Duration overlap,
+                                @Value("${course.snapshot.idle-timeout:30m}") Duration idleTimeout,
+                                @Value("${course.snapshot.build-wait-timeout:5s}") Duration buildWaitTimeout) {
+        this.courseRepository = courseRepository;
+        this.jsonFactory = objectMapper.getFactory();
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.maxTenants = maxTenants;
+        this.maxFileBytes = Math.min(maxFileBytes, Integer.MAX_VALUE);
+        this.overlap = overlap;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.builds = new SingleFlight<>(buildWaitTimeout);
+        if (enabled) {
+            prepareDirectory();
+        }
+    }
+
+    public Optional<ByteBuffer> find(UUID tenantId) {
+        if (!enabled || oversizedTenants.contains(tenantId)) {
+            return Optional.empty();
+        }
+        TenantCatalogSnapshot snapshot = snapshots.get(tenantId);
+        if (snapshot == null) {
+            try {
+                snapshot = builds.execute(tenantId, () -> {
+                    TenantCatalogSnapshot existing = snapshots.get(tenantId);
+                    return existing != null ? existing : build(tenantId);
+                });
+            } catch (DataAccessException | UncheckedIOException | ServiceUnavailableException e) {
+                log.warn("Não foi possível materializar o catálogo do tenant {}: {}", tenantId, e.getMessage());
+                return Optional.empty();
+            }
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+        }
+        snapshot.touch();
+        return Optional.of(snapshot.body());
+    }
+
+    @Scheduled(fixedDelayString = "${course.snapshot.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        evictIdle();
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        Map<UUID, TenantCatalogSnapshot> current = new HashMap<>(snapshots);
+        LocalDateTime since = null;
+        for (TenantCatalogSnapshot snapshot : current.values()) {
+            if (since == null || snapshot.coveredUpTo().isBefore(since)) {
+                since = snapshot.coveredUpTo();
+            }
+        }
+        List<Course> changes = courseRepository.findChangedSinceIncludingDeleted(
+                current.keySet().toArray(new UUID[0]), since.minus(overlap));
+        Map<UUID, List<Course>> changesByTenant = new HashMap<>();
+        for (Course course : changes) {
+            changesByTenant.computeIfAbsent(course.getTenantId(), id -> new ArrayList<>()).add(course);
+        }
+        for (Map.Entry<UUID, TenantCatalogSnapshot> entry : current.entrySet()) {
+            TenantCatalogSnapshot snapshot = entry.getValue();
+            List<Course> tenantChanges = changesByTenant.get(entry.getKey());
+            if (tenantChanges == null || !hasEffectiveChanges(snapshot, tenantChanges)) {
+                snapshot.coveredUpTo(startedAt);
+                continue;
+            }
+            TenantCatalogSnapshot updated;
+            try {
+                updated = write(entry.getKey(), snapshot, tenantChanges, startedAt);
+            } catch (UncheckedIOException e) {
+                log.warn("Não foi possível atualizar o catálogo do tenant {}: {}", entry.getKey(), e.getMessage());
+                if (oversizedTenants.contains(entry.getKey())) {
+                    evict(entry.getKey(), snapshot);
+                }
+                continue;
+            }
+            if (updated.index().isEmpty()) {
+                deleteQuietly(updated.file());
+                if (snapshots.remove(entry.getKey(), snapshot)) {
+                    deleteQuietly(snapshot.file());
+                    log.info("Catálogo do tenant {} descartado: não há mais cursos", entry.getKey());
+                }
+            } else if (snapshots.replace(entry.getKey(), snapshot, updated)) {
+                deleteQuietly(snapshot.file());
+                log.info("Catálogo do tenant {} atualizado com {} alterações", entry.getKey(), tenantChanges.size());
+            } else {
+                deleteQuietly(updated.file());
+            }
+        }
+    }
+
+    public int tenantCount() {
+        return snapshots.size();
+    }
+
+    private TenantCatalogSnapshot build(UUID tenantId) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Course> courses = courseRepository.findByTenantId(tenantId);
+        if (courses.isEmpty()) {
+            return null;
+        }
+        TenantCatalogSnapshot snapshot = write(tenantId, null, courses, startedAt);
+        admit(tenantId, snapshot);
+        log.info("Catálogo do tenant {} materializado com {} cursos", tenantId, courses.size());
+        return snapshot;
+    }
+
+    /**
+     * Único ponto que inclui tenants no mapa; sincronizado para que o limite de {@code max-tenants} seja respeitado
+     * mesmo com materializações concorrentes.
+     */
+    private synchronized void admit(UUID tenantId, TenantCatalogSnapshot snapshot) {
+        while (snapshots.size() >= maxTenants && !snapshots.isEmpty()) {
+            Map.Entry<UUID, TenantCatalogSnapshot> leastRecentlyUsed = null;
+            for (Map.Entry<UUID, TenantCatalogSnapshot> entry : snapshots.entrySet()) {
+                if (leastRecentlyUsed == null
+                        || entry.getValue().lastAccessNanos() - leastRecentlyUsed.getValue().lastAccessNanos() < 0) {
+                    leastRecentlyUsed = entry;
+                }
+            }
+            evict(leastRecentlyUsed.getKey(), leastRecentlyUsed.getValue());
+        }
+        snapshots.put(tenantId, snapshot);
+    }
+
+    private void evictIdle() {
+        long now = System.nanoTime();
+        for (Map.Entry<UUID, TenantCatalogSnapshot> entry : snapshots.entrySet()) {
+            if (now - entry.getValue().lastAccessNanos() > idleTimeoutNanos) {
+                evict(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void evict(UUID tenantId, TenantCatalogSnapshot snapshot) {
+        if (snapshots.remove(tenantId, snapshot)) {
+            deleteQuietly(snapshot.file());
+            log.debug("Catálogo do tenant {} descartado", tenantId);
+        }
+    }
+
+    private boolean hasEffectiveChanges(TenantCatalogSnapshot snapshot, List<Course> changes) {
+        for (Course course : changes) {
+            TenantCatalogSnapshot.Fragment fragment = snapshot.index().get(course.getId());
+            if (course.getDeletedAt() != null) {
+                if (fragment != null) {
+                    return true;
+                }
+            } else if (fragment == null || !fragment.updatedAt.equals(course.getUpdatedAt())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private TenantCatalogSnapshot write(UUID tenantId, TenantCatalogSnapshot previous, List<Course> changes,
+                                        LocalDateTime coveredUpTo) {
+        Map<UUID, Course> changedById = new LinkedHashMap<>();
+        for (Course course : changes) {
+            changedById.put(course.getId(), course);
+        }
+        Path file = directory.resolve("tenant-" + tenantId + "-" + fileSequence.incrementAndGet() + ".json");
+        Map<UUID, TenantCatalogSnapshot.Fragment> index = new LinkedHashMap<>();
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                FragmentWriter writer = new FragmentWriter(channel, maxFileBytes);
+                if (previous != null) {
+                    for (Map.Entry<UUID, TenantCatalogSnapshot.Fragment> entry : previous.index().entrySet()) {
+                        if (!changedById.containsKey(entry.getKey())) {
+                            TenantCatalogSnapshot.Fragment fragment = entry.getValue();
+                            index.put(entry.getKey(), writer.append(previous.fragment(fragment), fragment.updatedAt));
+                        }
+                    }
+                }
+                ByteArrayOutputStream courseBytes = new ByteArrayOutputStream(512);
+                for (Course course : changedById.values()) {
+                    if (course.getDeletedAt() != null) {
+                        continue;
+                    }
+                    courseBytes.reset();
+                    serialize(course, courseBytes);
+                    index.put(course.getId(), writer.append(ByteBuffer.wrap(courseBytes.toByteArray()), course.getUpdatedAt()));
+                }
+                writer.finish();
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (channel.size() > maxFileBytes) {
+                    throw new SnapshotTooLargeException(channel.size());
+                }
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                long lastAccessNanos = previous != null ? previous.lastAccessNanos() : System.nanoTime();
+                return new TenantCatalogSnapshot(file, buffer, index, coveredUpTo, lastAccessNanos);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            deleteQuietly(file);
+            if (e instanceof SnapshotTooLargeException) {
+                oversizedTenants.add(tenantId);
+            }
+            throw new UncheckedIOException("Falha ao gravar o catálogo do tenant " + tenantId,
+                    e instanceof IOException ? (IOException) e : new IOException(e));
+        }
+    }
+
+    private void serialize(Course course, OutputStream out) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            new CourseJsonWriter(generator).writeCourse(course);
+        }
+    }
+
+    private void prepareDirectory() {
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, "tenant-*.json")) {
+                for (Path file : stale) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Diretório de catálogos inválido: " + directory, e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Não foi possível apagar {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static final class FragmentWriter {
+
+        private final FileChannel channel;
+        private final long maxBytes;
+        private long position;
+        private boolean first = true;
+
+        FragmentWriter(FileChannel channel, long maxBytes) throws IOException {
+            this.channel = channel;
+            this.maxBytes = maxBytes;
+            write(ByteBuffer.wrap(ARRAY_START));
+        }
+
+        TenantCatalogSnapshot.Fragment append(ByteBuffer fragment, LocalDateTime updatedAt) throws IOException {
+            if (!first) {
+                write(ByteBuffer.wrap(SEPARATOR));
+            }
+            first = false;
+            long offset = position;
+            int length = fragment.remaining();
+            write(fragment);
+            return new TenantCatalogSnapshot.Fragment((int) offset, length, updatedAt);
+        }
+
+        void finish() throws IOException {
+            write(ByteBuffer.wrap(ARRAY_END));
+        }
+
+        /**
+         * Recusa a escrita antes de passar do limite, para que os deslocamentos caibam em {@code int} e o arquivo
+         * possa ser mapeado.
+         */
+        private void write(ByteBuffer bytes) throws IOException {
+            if (position + bytes.remaining() > maxBytes) {
+                throw new SnapshotTooLargeException(position + bytes.remaining());
+            }
+            while (bytes.hasRemaining()) {
+                position += channel.write(bytes);
+            }
+        }
+    }
+
+    private static final class SnapshotTooLargeException extends IOException {
+
+        SnapshotTooLargeException(long size) {
+            super("Catálogo excede o tamanho máximo de arquivo mapeado: " + size + " bytes");
+        }
+    }
+}
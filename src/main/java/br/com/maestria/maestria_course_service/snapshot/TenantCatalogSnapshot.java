@@ -0,0 +1,84 @@
+package br.com.maestria.maestria_course_service.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Arquivo mapeado em memória com o catálogo de um tenant já serializado como array JSON. O índice guarda só a
+ * posição de cada curso no arquivo e o {@code updated_at} que ele tinha, para que a atualização reaproveite os bytes
+ * dos cursos que não mudaram.
+ */
+final class TenantCatalogSnapshot {
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final Map<UUID, Fragment> index;
+    private volatile LocalDateTime coveredUpTo;
+    private volatile long lastAccessNanos;
+
+    TenantCatalogSnapshot(Path file, MappedByteBuffer buffer, Map<UUID, Fragment> index, LocalDateTime coveredUpTo,
+                          long lastAccessNanos) {
+        this.file = file;
+        this.buffer = buffer;
+        this.index = index;
+        this.coveredUpTo = coveredUpTo;
+        this.lastAccessNanos = lastAccessNanos;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    ByteBuffer body() {
+        return buffer.asReadOnlyBuffer();
+    }
+
+    ByteBuffer fragment(Fragment fragment) {
+        ByteBuffer slice = buffer.asReadOnlyBuffer();
+        slice.position(fragment.offset).limit(fragment.offset + fragment.length);
+        return slice;
+    }
+
+    Map<UUID, Fragment> index() {
+        return index;
+    }
+
+    /**
+     * Instante até o qual as alterações do banco já estão refletidas no arquivo.
+     */
+    LocalDateTime coveredUpTo() {
+        return coveredUpTo;
+    }
+
+    void coveredUpTo(LocalDateTime coveredUpTo) {
+        this.coveredUpTo = coveredUpTo;
+    }
+
+    /**
+     * Momento ({@link System#nanoTime()}) do último pedido servido por este catálogo, usado para descartar tenants
+     * ociosos.
+     */
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch() {
+        this.lastAccessNanos = System.nanoTime();
+    }
+
+    static final class Fragment {
+        final int offset;
+        final int length;
+        final LocalDateTime updatedAt;
+
+        Fragment(int offset, int length, LocalDateTime updatedAt) {
+            this.offset = offset;
+            this.length = length;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.maestria.maestria_course_service.support;
+
+import br.com.maestria.maestria_course_service.exception.CircuitOpenException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Abre após {@code failureThreshold} falhas consecutivas (chamadas mais lentas que {@code slowCallThreshold}
+ * também contam) e rejeita chamadas por {@code openDuration}. Depois disso libera uma única chamada de teste:
+ * sucesso fecha o circuito, falha o reabre. Exceções que não passam em {@code recordsFailure} são repassadas
+ * sem contar como falha.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final long slowCallThresholdNanos;
+    private final LongSupplier nanoClock;
+    private final Predicate<Throwable> recordsFailure;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, Duration slowCallThreshold) {
+        this(name, failureThreshold, openDuration, slowCallThreshold, failure -> true);
+    }
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, Duration slowCallThreshold,
+                          Predicate<Throwable> recordsFailure) {
+        this(name, failureThreshold, openDuration, slowCallThreshold, recordsFailure, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, Duration slowCallThreshold,
+                   LongSupplier nanoClock) {
+        this(name, failureThreshold, openDuration, slowCallThreshold, failure -> true, nanoClock);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, Duration slowCallThreshold,
+                   Predicate<Throwable> recordsFailure, LongSupplier nanoClock) {
+        this.name = name;
+        this.recordsFailure = recordsFailure;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        acquirePermission();
+        long start = nanoClock.getAsLong();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            if (recordsFailure.test(e)) {
+                onFailure();
+            } else {
+                onIgnored();
+            }
+            throw e;
+        }
+        if (nanoClock.getAsLong() - start > slowCallThresholdNanos) {
+            onFailure();
+        } else {
+            onSuccess();
+        }
+        return result;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private synchronized void acquirePermission() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+            state = State.HALF_OPEN;
+        }
+        if (state == State.OPEN || (state == State.HALF_OPEN && trialInFlight)) {
+            throw new CircuitOpenException("Circuito '" + name + "' aberto: banco de dados indisponível");
+        }
+        if (state == State.HALF_OPEN) {
+            trialInFlight = true;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Circuito '{}' fechado", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    private synchronized void onIgnored() {
+        trialInFlight = false;
+    }
+
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("Circuito '{}' aberto após {} falhas consecutivas", name, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+        }
+        trialInFlight = false;
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.maestria.maestria_course_service.support;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Marca a requisição corrente como atendida com dados antigos, guardando o instante do carregamento mais antigo usado.
+ */
+public final class StaleReads {
+
+    private static final String LOADED_AT_ATTRIBUTE = StaleReads.class.getName() + ".loadedAt";
+
+    private StaleReads() {
+    }
+
+    public static void mark(Instant loadedAt) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        Instant previous = (Instant) attributes.getAttribute(LOADED_AT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (previous == null || loadedAt.isBefore(previous)) {
+            attributes.setAttribute(LOADED_AT_ATTRIBUTE, loadedAt, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    public static Optional<Instant> loadedAt(RequestAttributes attributes) {
+        return Optional.ofNullable((Instant) attributes.getAttribute(LOADED_AT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
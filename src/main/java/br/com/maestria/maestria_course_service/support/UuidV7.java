@@ -0,0 +1,50 @@
+package br.com.maestria.maestria_course_service.support;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gera UUIDs versão 7 (RFC 9562): 48 bits de timestamp em milissegundos, seguidos de um contador de 12 bits
+ * e 62 bits aleatórios. O par timestamp/contador vive num único {@link AtomicLong}, atualizado por CAS, o que
+ * garante ordem crescente entre threads sem locks; se o contador estourar dentro do mesmo milissegundo, o
+ * timestamp avança um milissegundo em vez de repetir valores.
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final AtomicLong STATE = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID randomUuid() {
+        long state = nextState(System.currentTimeMillis());
+        long timestamp = state >>> COUNTER_BITS;
+        long counter = state & COUNTER_MASK;
+        long mostSignificantBits = (timestamp << 16) | VERSION | counter;
+        long leastSignificantBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public static long timestampMillis(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextState(long now) {
+        while (true) {
+            long previous = STATE.get();
+            long next = (previous >>> COUNTER_BITS) < now
+                    ? (now << COUNTER_BITS) | ThreadLocalRandom.current().nextInt(1 << (COUNTER_BITS - 1))
+                    : previous + 1;
+            if (STATE.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package br.com.maestria.maestria_course_service.warmup;
+
+import br.com.maestria.maestria_course_service.cache.CourseCache;
+import br.com.maestria.maestria_course_service.dto.request.BatchGetCoursesRequest;
+import br.com.maestria.maestria_course_service.dto.request.CreateCourseRequest;
+import br.com.maestria.maestria_course_service.dto.response.CourseResponse;
+import br.com.maestria.maestria_course_service.entity.Course;
+import br.com.maestria.maestria_course_service.repository.CourseRepository;
+import br.com.maestria.maestria_course_service.serialization.CourseJsonWriter;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Aquece o pool de conexões, o Hibernate, a serialização, a validação de JWT e o cache antes de o pod receber
+ * tráfego. Roda como {@link ApplicationRunner}: o Spring Boot só publica {@code ReadinessState.ACCEPTING_TRAFFIC}
+ * depois que todos os runners terminam, então a sonda de readiness fica negativa até o fim do aquecimento ou
+ * até {@code course.warmup.timeout}. Falhas no aquecimento nunca impedem a subida da aplicação.
+ */
+@Component
+@Slf4j
+public class ApplicationWarmup implements ApplicationRunner {
+
+    private static final int SAMPLE_LIST_SIZE = 100;
+
+    private final DataSource dataSource;
+    private final CourseRepository courseRepository;
+    private final CourseCache courseCache;
+    private final ObjectMapper objectMapper;
+    private final JwtDecoder jwtDecoder;
+    private final JwtAuthenticationConverter jwtAuthenticationConverter;
+    private final String jwtSecret;
+    private final boolean enabled;
+    private final Duration timeout;
+    private final int queryIterations;
+    private final int serializationIterations;
+    private final int preloadCourses;
+
+    public ApplicationWarmup(DataSource dataSource,
+                             CourseRepository courseRepository,
+                             CourseCache courseCache,
+                             ObjectMapper objectMapper,
+                             JwtDecoder jwtDecoder,
+                             JwtAuthenticationConverter jwtAuthenticationConverter,
+                             @Value("${spring.security.oauth2.resourceserver.jwt.secret-key}") String jwtSecret,
+                             @Value("${course.warmup.enabled:true}") boolean enabled,
+                             @Value("${course.warmup.timeout:60s}") Duration timeout,
+                             @Value("${course.warmup.query-iterations:50}") int queryIterations,
+                             @Value("${course.warmup.serialization-iterations:2000}") int serializationIterations,
+                             @Value("${course.warmup.preload-courses:500}") int preloadCourses) {
+        this.dataSource = dataSource;
+        this.courseRepository = courseRepository;
+        this.courseCache = courseCache;
+        this.objectMapper = objectMapper;
+        this.jwtDecoder = jwtDecoder;
+        this.jwtAuthenticationConverter = jwtAuthenticationConverter;
+        this.jwtSecret = jwtSecret;
+        this.enabled = enabled;
+        this.timeout = timeout;
+        this.queryIterations = queryIterations;
+        this.serializationIterations = serializationIterations;
+        this.preloadCourses = preloadCourses;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "course-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Future<?> warmup = executor.submit(this::warmUp);
+        try {
+            warmup.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            log.info("Aquecimento concluído em {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (TimeoutException e) {
+            warmup.cancel(true);
+            log.warn("Aquecimento interrompido após {} ms; liberando o tráfego mesmo assim", timeout.toMillis());
+        } catch (ExecutionException e) {
+            log.warn("Falha no aquecimento; liberando o tráfego mesmo assim", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    void warmUp() {
+        step("pool de conexões", this::fillConnectionPool);
+        step("consultas", this::runRepresentativeQueries);
+        step("serialização", this::exerciseSerialization);
+        step("JWT", this::exerciseJwt);
+        step("cache", this::preloadRecentCourses);
+    }
+
+    private void step(String name, Runnable action) {
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            action.run();
+            log.info("Aquecimento de {} concluído em {} ms", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            log.warn("Aquecimento de {} falhou: {}", name, e.getMessage());
+        }
+    }
+
+    private void fillConnectionPool() {
+        int target;
+        try {
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            target = hikari.getMinimumIdle() > 0
+                    ? Math.min(hikari.getMinimumIdle(), hikari.getMaximumPoolSize())
+                    : hikari.getMaximumPoolSize();
+        } catch (SQLException e) {
+            log.debug("DataSource não é um pool Hikari; aquecimento do pool ignorado");
+            return;
+        }
+        List<Connection> connections = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Não foi possível abrir conexões: " + e.getMessage(), e);
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("Falha ao devolver conexão ao pool: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void runRepresentativeQueries() {
+        for (int i = 0; i < queryIterations && !Thread.currentThread().isInterrupted(); i++) {
+            UUID randomId = UUID.randomUUID();
+            courseRepository.findById(randomId);
+            courseRepository.findByTenantId(randomId);
+            courseRepository.findAllByIds(new UUID[]{randomId});
+        }
+    }
+
+    private void exerciseSerialization() {
+        List<Course> courses = sampleCourses();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        try {
+            for (int i = 0; i < serializationIterations && !Thread.currentThread().isInterrupted(); i++) {
+                out.reset();
+                try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                    new CourseJsonWriter(generator).writeCourses(courses);
+                }
+                Course course = courses.get(i % courses.size());
+                objectMapper.writeValueAsBytes(CourseResponse.from(course));
+                objectMapper.readValue("{\"title\":\"" + course.getTitle() + "\",\"description\":\""
+                        + course.getDescription() + "\",\"price\":" + course.getPrice() + "}", CreateCourseRequest.class);
+                objectMapper.readValue("{\"ids\":[\"" + course.getId() + "\"]}", BatchGetCoursesRequest.class);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private void exerciseJwt() {
+        NimbusJwtEncoder encoder = new NimbusJwtEncoder(
+                new ImmutableSecret<>(new SecretKeySpec(jwtSecret.getBytes(), "HmacSHA256")));
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        for (int i = 0; i < serializationIterations && !Thread.currentThread().isInterrupted(); i++) {
+            Instant now = Instant.now();
+            JwtClaimsSet claims = JwtClaimsSet.builder()
+                    .subject(UUID.randomUUID().toString())
+                    .claim("tenantId", UUID.randomUUID().toString())
+                    .claim("roles", Collections.singletonList("ALUNO"))
+                    .issuedAt(now)
+                    .expiresAt(now.plusSeconds(60))
+                    .build();
+            String token = encoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+            Jwt decoded = jwtDecoder.decode(token);
+            jwtAuthenticationConverter.convert(decoded);
+        }
+    }
+
+    private void preloadRecentCourses() {
+        if (preloadCourses <= 0) {
+            return;
+        }
+        long generation = courseCache.currentGeneration();
+        List<Course> recentCourses = courseRepository.findByOrderByUpdatedAtDesc(PageRequest.of(0, preloadCourses));
+        for (Course course : recentCourses) {
+            courseCache.put(course, generation);
+        }
+        if (!recentCourses.isEmpty()) {
+            log.info("Pré-carregados {} cursos no cache", recentCourses.size());
+        }
+    }
+
+    private static List<Course> sampleCourses() {
+        List<Course> courses = new ArrayList<>(SAMPLE_LIST_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < SAMPLE_LIST_SIZE; i++) {
+            courses.add(Course.builder()
+                    .id(UUID.randomUUID())
+                    .title("Curso de aquecimento " + i)
+                    .description("Descrição do curso de aquecimento " + i)
+                    .price(BigDecimal.valueOf(1999 + i, 2))
+                    .tenantId(UUID.randomUUID())
+                    .instructorId(UUID.randomUUID())
+                    .createdAt(now.minusDays(i))
+                    .updatedAt(now.minusSeconds(i))
+                    .build());
+        }
+        return courses;
+    }
+}
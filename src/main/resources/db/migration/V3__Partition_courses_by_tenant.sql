@@ -0,0 +1,30 @@
+ALTER TABLE courses RENAME TO courses_unpartitioned;
+
+CREATE TABLE courses (
+    id UUID NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    tenant_id UUID NOT NULL,
+    instructor_id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    price NUMERIC(10, 2) NOT NULL DEFAULT 0.00,
+    PRIMARY KEY (tenant_id, id)
+) PARTITION BY HASH (tenant_id);
+
+DO $$
+BEGIN
+    FOR remainder IN 0..${course_partition_count} - 1 LOOP
+        EXECUTE format(
+            'CREATE TABLE courses_p%s PARTITION OF courses FOR VALUES WITH (MODULUS %s, REMAINDER %s)',
+            remainder, ${course_partition_count}, remainder);
+    END LOOP;
+END $$;
+
+CREATE INDEX idx_courses_id ON courses (id);
+
+INSERT INTO courses (id, title, description, tenant_id, instructor_id, created_at, updated_at, price)
+SELECT id, title, description, tenant_id, instructor_id, created_at, updated_at, price
+FROM courses_unpartitioned;
+
+DROP TABLE courses_unpartitioned;
@@ -0,0 +1,19 @@
+ALTER TABLE courses ADD COLUMN deleted_at TIMESTAMP;
+
+CREATE INDEX idx_courses_active_tenant ON courses (tenant_id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_courses_deleted_at ON courses (deleted_at) WHERE deleted_at IS NOT NULL;
+
+CREATE TABLE courses_archive (
+    id UUID PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    price NUMERIC(10, 2) NOT NULL,
+    tenant_id UUID NOT NULL,
+    instructor_id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    deleted_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_courses_archive_tenant ON courses_archive (tenant_id, deleted_at);
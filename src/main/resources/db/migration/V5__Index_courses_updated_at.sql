@@ -0,0 +1 @@
+CREATE INDEX idx_courses_updated_at ON courses (updated_at);
@@ -0,0 +1,20 @@
+CREATE TABLE course_repricing_jobs (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    instructor_id UUID,
+    rule VARCHAR(32) NOT NULL,
+    rule_value NUMERIC(10, 2) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    total_courses BIGINT NOT NULL,
+    processed_courses BIGINT NOT NULL DEFAULT 0,
+    last_course_id UUID,
+    error_message TEXT,
+    created_by UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP
+);
+
+CREATE INDEX idx_course_repricing_jobs_pending ON course_repricing_jobs (status, updated_at)
+    WHERE status IN ('PENDING', 'RUNNING');
+CREATE INDEX idx_course_repricing_jobs_tenant ON course_repricing_jobs (tenant_id, created_at);
@@ -1,15 +1,54 @@
 package br.com.maestria.maestria_course_service;
 
+import br.com.maestria.maestria_course_service.observability.QueryMetricsDataSource;
+import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
+@AutoConfigureMockMvc
 @ActiveProfiles("test")
 class MaestriaCourseServiceApplicationTests {
 
+	@Autowired
+	private MockMvc mockMvc;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void readinessProbe_ShouldBeUpAfterWarmup() throws Exception {
+		mockMvc.perform(get("/actuator/health/readiness"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.status").value("UP"));
+	}
+
+	@Test
+	void shutdown_ShouldCloseHikariPool() {
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(MaestriaCourseServiceApplication.class)
+				.profiles("test")
+				// compartilha o banco com os outros contextos de teste; não derrubar o schema ao fechar
+				.run("--server.port=0", "--spring.jpa.hibernate.ddl-auto=update", "--course.warmup.enabled=false");
+		HikariDataSource hikari = context.getBean("hikariDataSource", HikariDataSource.class);
+		assertThat(context.getBean(DataSource.class)).isInstanceOf(QueryMetricsDataSource.class);
+
+		context.close();
+
+		assertThat(hikari.isClosed()).isTrue();
+	}
+
 }
@@ -0,0 +1,170 @@
+package br.com.maestria.maestria_course_service.cache;
+
+import br.com.maestria.maestria_course_service.MaestriaCourseServiceApplication;
+import br.com.maestria.maestria_course_service.dto.request.UpdateCourseRequest;
+import br.com.maestria.maestria_course_service.entity.Course;
+import br.com.maestria.maestria_course_service.repository.CourseRepository;
+import br.com.maestria.maestria_course_service.service.CourseService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sobe dois contextos da aplicação contra o mesmo PostgreSQL para simular duas réplicas do serviço.
+ */
+class CourseCacheInvalidationTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        nodeA.getBean(CourseRepository.class).deleteAll();
+        nodeA.getBean(CourseCache.class).clear();
+        nodeB.getBean(CourseCache.class).clear();
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache do outro nó quando um curso é atualizado")
+    void updateCourse_OnOneNode_ShouldEvictCourseOnOtherNode() {
+        Course course = nodeA.getBean(CourseRepository.class).save(Course.builder()
+                .title("Original")
+                .description("Desc")
+                .price(new BigDecimal("10.00"))
+                .instructorId(UUID.randomUUID())
+                .tenantId(UUID.randomUUID())
+                .build());
+
+        CourseService serviceB = nodeB.getBean(CourseService.class);
+        CourseCache cacheB = nodeB.getBean(CourseCache.class);
+        assertEquals("Original", serviceB.findById(course.getId()).orElseThrow().getTitle());
+        assertTrue(cacheB.get(course.getId()).isPresent());
+
+        UpdateCourseRequest request = new UpdateCourseRequest();
+        request.setTitle("Atualizado no nó A");
+        request.setDescription("Desc");
+        request.setPrice(new BigDecimal("12.00"));
+        nodeA.getBean(CourseService.class).updateCourse(course.getId(), request, authenticateAsAdmin());
+
+        awaitCondition(() -> cacheB.get(course.getId()).isEmpty());
+        assertEquals("Atualizado no nó A", serviceB.findById(course.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    @DisplayName("Deve esvaziar o cache local e o último valor conhecido quando a conexão de LISTEN é restabelecida")
+    void listenerReconnect_ShouldFlushLocalCaches() {
+        Course course = nodeA.getBean(CourseRepository.class).save(Course.builder()
+                .title("Em cache")
+                .description("Desc")
+                .price(new BigDecimal("10.00"))
+                .instructorId(UUID.randomUUID())
+                .tenantId(UUID.randomUUID())
+                .build());
+        CourseCache cacheB = nodeB.getBean(CourseCache.class);
+        LastKnownGoodCache lastKnownGoodB = nodeB.getBean(LastKnownGoodCache.class);
+        nodeB.getBean(CourseService.class).findById(course.getId());
+        assertTrue(cacheB.get(course.getId()).isPresent());
+        assertTrue(lastKnownGoodB.get(LastKnownGoodCache.courseKey(course.getId())).isPresent());
+
+        nodeA.getBean(JdbcTemplate.class).queryForList(
+                "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE query LIKE 'LISTEN course_invalidation%'");
+
+        awaitCondition(() -> cacheB.get(course.getId()).isEmpty()
+                && !lastKnownGoodB.get(LastKnownGoodCache.courseKey(course.getId())).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar IDs inválidos na notificação e continuar aplicando as válidas")
+    void malformedNotification_ShouldNotStopListener() {
+        Course course = nodeA.getBean(CourseRepository.class).save(Course.builder()
+                .title("Em cache")
+                .description("Desc")
+                .price(new BigDecimal("10.00"))
+                .instructorId(UUID.randomUUID())
+                .tenantId(UUID.randomUUID())
+                .build());
+        CourseCache cacheB = nodeB.getBean(CourseCache.class);
+        nodeB.getBean(CourseService.class).findById(course.getId());
+        assertTrue(cacheB.get(course.getId()).isPresent());
+
+        nodeA.getBean(JdbcTemplate.class).query("SELECT pg_notify('course_invalidation', ?)", rs -> null,
+                "outro-no:nao-e-um-uuid," + course.getId());
+
+        awaitCondition(() -> cacheB.get(course.getId()).isEmpty());
+
+        nodeB.getBean(CourseService.class).findById(course.getId());
+        assertTrue(cacheB.get(course.getId()).isPresent());
+        nodeA.getBean(JdbcTemplate.class).query("SELECT pg_notify('course_invalidation', ?)", rs -> null,
+                "outro-no:" + course.getId());
+
+        awaitCondition(() -> cacheB.get(course.getId()).isEmpty());
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(MaestriaCourseServiceApplication.class)
+                .profiles("test")
+                .run("--server.port=0", "--course.cache.invalidation.reconnect-backoff=100ms",
+                        // os nós compartilham o banco com os outros contextos de teste; não derrubar o schema ao fechar
+                        "--spring.jpa.hibernate.ddl-auto=update");
+    }
+
+    private static Jwt authenticateAsAdmin() {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject(UUID.randomUUID().toString())
+                .claim("roles", Collections.singletonList("ADMIN"))
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new JwtAuthenticationToken(jwt, Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+        return jwt;
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrompido aguardando a invalidação");
+            }
+        }
+        fail("A invalidação não chegou ao outro nó a tempo");
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.maestria.maestria_course_service.cache;
+
+import br.com.maestria.maestria_course_service.entity.Course;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseCacheTest {
+
+    private final CourseCache courseCache = new CourseCache(Duration.ofMinutes(5), 100);
+
+    @Test
+    @DisplayName("Deve descartar valores carregados antes de uma invalidação")
+    void put_WhenGenerationMoved_ShouldDiscardValue() {
+        Course course = Course.builder().id(UUID.randomUUID()).title("Curso").build();
+        long generation = courseCache.currentGeneration();
+
+        courseCache.evict(Collections.singletonList(course.getId()));
+        courseCache.put(course, generation);
+
+        assertThat(courseCache.get(course.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Nenhuma escrita concorrente com invalidações deve sobreviver com geração antiga")
+    void put_RacingWithEvict_ShouldNeverLeaveStaleValue() throws Exception {
+        UUID courseId = UUID.randomUUID();
+        Course course = Course.builder().id(courseId).title("Curso").build();
+        for (int i = 0; i < 2000; i++) {
+            long generation = courseCache.currentGeneration();
+            Thread evictor = new Thread(() -> courseCache.evict(Collections.singletonList(courseId)));
+            evictor.start();
+            courseCache.put(course, generation);
+            evictor.join();
+
+            if (courseCache.currentGeneration() != generation) {
+                assertThat(courseCache.get(courseId)).isEmpty();
+            }
+            courseCache.clear();
+        }
+    }
+}
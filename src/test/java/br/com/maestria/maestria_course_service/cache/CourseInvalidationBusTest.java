@@ -0,0 +1,64 @@
+package br.com.maestria.maestria_course_service.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class CourseInvalidationBusTest {
+
+    private final CourseCache courseCache = new CourseCache(Duration.ofMinutes(5), 100);
+    private final LastKnownGoodCache lastKnownGoodCache = new LastKnownGoodCache(Duration.ofHours(1), 100);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CourseInvalidationBus bus =
+            new CourseInvalidationBus(courseCache, lastKnownGoodCache, jdbcTemplate, "course_invalidation", false);
+
+    @Test
+    @DisplayName("Não deve acumular invalidações pendentes quando a propagação está desativada")
+    void invalidate_WhenDisabled_ShouldOnlyEvictLocally() {
+        bus.invalidate(UUID.randomUUID());
+        bus.flush();
+
+        assertThat(bus.pendingCount()).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve remover do último valor conhecido o curso alterado e as listagens")
+    void invalidate_ShouldEvictLastKnownGoodCourseAndLists() {
+        UUID courseId = UUID.randomUUID();
+        UUID otherCourseId = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+        lastKnownGoodCache.put(LastKnownGoodCache.courseKey(courseId), Optional.of("curso"));
+        lastKnownGoodCache.put(LastKnownGoodCache.courseKey(otherCourseId), Optional.of("outro"));
+        lastKnownGoodCache.put(LastKnownGoodCache.tenantKey(tenantId), Collections.singletonList("curso"));
+
+        bus.invalidate(courseId);
+
+        assertThat(lastKnownGoodCache.get(LastKnownGoodCache.courseKey(courseId))).isEmpty();
+        assertThat(lastKnownGoodCache.get(LastKnownGoodCache.tenantKey(tenantId))).isEmpty();
+        assertThat(lastKnownGoodCache.get(LastKnownGoodCache.courseKey(otherCourseId))).isPresent();
+    }
+
+    @Test
+    @DisplayName("Deve registrar o curso excluído como ausente no último valor conhecido")
+    void invalidateDeleted_ShouldStoreEmptyLastKnownGood() {
+        UUID courseId = UUID.randomUUID();
+        lastKnownGoodCache.put(LastKnownGoodCache.courseKey(courseId), Optional.of("curso"));
+
+        bus.invalidateDeleted(courseId);
+
+        Optional<LastKnownGoodCache.Entry<Optional<String>>> entry =
+                lastKnownGoodCache.get(LastKnownGoodCache.courseKey(courseId));
+        assertThat(entry).isPresent();
+        assertThat(entry.get().getValue()).isEmpty();
+    }
+}
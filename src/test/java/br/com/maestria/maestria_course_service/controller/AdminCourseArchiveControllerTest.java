@@ -0,0 +1,120 @@
+package br.com.maestria.maestria_course_service.controller;
+
+import br.com.maestria.maestria_course_service.archive.CourseArchiver;
+import br.com.maestria.maestria_course_service.entity.Course;
+import br.com.maestria.maestria_course_service.repository.CourseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdminCourseArchiveControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseArchiver courseArchiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    @AfterEach
+    void clean() {
+        jdbcTemplate.update("DELETE FROM courses");
+        jdbcTemplate.update("DELETE FROM courses_archive");
+    }
+
+    private JwtGrantedAuthoritiesConverter authoritiesConverter() {
+        JwtGrantedAuthoritiesConverter converter = new JwtGrantedAuthoritiesConverter();
+        converter.setAuthorityPrefix("ROLE_");
+        converter.setAuthoritiesClaimName("roles");
+        return converter;
+    }
+
+    private Course softDeletedCourse(UUID tenantId) {
+        Course course = courseRepository.save(Course.builder()
+                .title("Curso arquivado")
+                .description("Desc")
+                .price(new BigDecimal("10.00"))
+                .instructorId(UUID.randomUUID())
+                .tenantId(tenantId)
+                .build());
+        courseRepository.deleteById(course.getId());
+        return course;
+    }
+
+    @Test
+    @DisplayName("Deve mover cursos excluídos para o arquivo e expô-los ao ADMIN")
+    void archive_ShouldMoveSoftDeletedCoursesAndExposeThemToAdmin() throws Exception {
+        UUID tenantId = UUID.randomUUID();
+        Course course = softDeletedCourse(tenantId);
+
+        int moved = courseArchiver.archiveDeletedBefore(LocalDateTime.now().plusMinutes(1));
+
+        assertThat(moved).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM courses WHERE id = ?", Integer.class, course.getId())).isZero();
+
+        mockMvc.perform(get("/api/v1/admin/courses/archive").param("tenantId", tenantId.toString())
+                        .with(jwt().jwt(j -> j.subject(UUID.randomUUID().toString()).claim("roles", Collections.singletonList("ADMIN")))
+                                .authorities(authoritiesConverter())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(course.getId().toString()))
+                .andExpect(jsonPath("$[0].deletedAt").isNotEmpty());
+
+        mockMvc.perform(get("/api/v1/admin/courses/archive/{id}", course.getId())
+                        .with(jwt().jwt(j -> j.subject(UUID.randomUUID().toString()).claim("roles", Collections.singletonList("ADMIN")))
+                                .authorities(authoritiesConverter())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Curso arquivado"));
+    }
+
+    @Test
+    @DisplayName("Não deve arquivar cursos excluídos dentro do período de retenção")
+    void archive_ShouldKeepCoursesDeletedAfterCutoff() {
+        Course course = softDeletedCourse(UUID.randomUUID());
+
+        int moved = courseArchiver.archiveDeletedBefore(LocalDateTime.now().minusDays(1));
+
+        assertThat(moved).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM courses_archive", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM courses WHERE id = ?", Integer.class, course.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 403 Forbidden quando o usuário não for ADMIN")
+    void getArchivedCourses_WhenUserIsInstructor_ShouldReturn403Forbidden() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/courses/archive")
+                        .with(jwt().jwt(j -> j.subject(UUID.randomUUID().toString()).claim("roles", Collections.singletonList("INSTRUTOR")))
+                                .authorities(authoritiesConverter())))
+                .andExpect(status().isForbidden());
+    }
+}
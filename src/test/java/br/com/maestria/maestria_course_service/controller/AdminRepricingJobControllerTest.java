@@ -0,0 +1,241 @@
+package br.com.maestria.maestria_course_service.controller;
+
+import br.com.maestria.maestria_course_service.entity.Course;
+import br.com.maestria.maestria_course_service.entity.CourseRepricingJob;
+import br.com.maestria.maestria_course_service.entity.RepricingJobStatus;
+import br.com.maestria.maestria_course_service.entity.RepricingRule;
+import br.com.maestria.maestria_course_service.repository.CourseRepository;
+import br.com.maestria.maestria_course_service.repository.CourseRepricingJobRepository;
+import br.com.maestria.maestria_course_service.repricing.CourseRepricingRunner;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "course.repricing.chunk-size=2",
+        "course.repricing.pause-between-chunks=0ms"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdminRepricingJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseRepricingJobRepository jobRepository;
+
+    @Autowired
+    private CourseRepricingRunner repricingRunner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<UUID> tenants = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (UUID tenantId : tenants) {
+            jdbcTemplate.update("DELETE FROM courses WHERE tenant_id = ?", tenantId);
+            jdbcTemplate.update("DELETE FROM course_repricing_jobs WHERE tenant_id = ?", tenantId);
+        }
+    }
+
+    private JwtGrantedAuthoritiesConverter authoritiesConverter() {
+        JwtGrantedAuthoritiesConverter converter = new JwtGrantedAuthoritiesConverter();
+        converter.setAuthorityPrefix("ROLE_");
+        converter.setAuthoritiesClaimName("roles");
+        return converter;
+    }
+
+    private RequestPostProcessor admin() {
+        return jwt().jwt(j -> j.subject(UUID.randomUUID().toString()).claim("roles", Collections.singletonList("ADMIN")))
+                .authorities(authoritiesConverter());
+    }
+
+    private UUID newTenant() {
+        UUID tenantId = UUID.randomUUID();
+        tenants.add(tenantId);
+        return tenantId;
+    }
+
+    private Course course(UUID tenantId, UUID instructorId) {
+        return courseRepository.save(Course.builder()
+                .title("Curso")
+                .description("Desc")
+                .price(new BigDecimal("100.00"))
+                .instructorId(instructorId)
+                .tenantId(tenantId)
+                .build());
+    }
+
+    private BigDecimal priceOf(UUID courseId) {
+        return jdbcTemplate.queryForObject("SELECT price FROM courses WHERE id = ?", BigDecimal.class, courseId);
+    }
+
+    private CourseRepricingJob awaitFinished(UUID jobId) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            CourseRepricingJob job = jobRepository.findById(jobId).orElseThrow(IllegalStateException::new);
+            if (job.getStatus() == RepricingJobStatus.COMPLETED || job.getStatus() == RepricingJobStatus.FAILED) {
+                return job;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrompido aguardando o job de reprecificação");
+            }
+        }
+        fail("O job de reprecificação não terminou a tempo");
+        return null;
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o desconto em faixas apenas aos cursos ativos do instrutor")
+    void createJob_ShouldApplyDiscountToInstructorCoursesInChunks() throws Exception {
+        UUID tenantId = newTenant();
+        UUID instructorId = UUID.randomUUID();
+        List<Course> instructorCourses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            instructorCourses.add(course(tenantId, instructorId));
+        }
+        Course otherInstructorCourse = course(tenantId, UUID.randomUUID());
+        Course otherTenantCourse = course(newTenant(), instructorId);
+        Course deletedCourse = course(tenantId, instructorId);
+        courseRepository.deleteById(deletedCourse.getId());
+
+        String body = "{\"tenantId\":\"" + tenantId + "\",\"instructorId\":\"" + instructorId
+                + "\",\"rule\":\"PERCENTAGE_DISCOUNT\",\"value\":10}";
+        String response = mockMvc.perform(post("/api/v1/admin/courses/repricing-jobs")
+                        .with(admin())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.totalCourses").value(5))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode created = objectMapper.readTree(response);
+        UUID jobId = UUID.fromString(created.get("id").asText());
+
+        CourseRepricingJob job = awaitFinished(jobId);
+
+        assertThat(job.getStatus()).isEqualTo(RepricingJobStatus.COMPLETED);
+        assertThat(job.getProcessedCourses()).isEqualTo(5);
+        for (Course course : instructorCourses) {
+            assertThat(priceOf(course.getId())).isEqualByComparingTo("90.00");
+            assertThat(courseRepository.findById(course.getId()).orElseThrow(IllegalStateException::new).getUpdatedAt())
+                    .isAfter(course.getUpdatedAt());
+        }
+        assertThat(priceOf(otherInstructorCourse.getId())).isEqualByComparingTo("100.00");
+        assertThat(priceOf(otherTenantCourse.getId())).isEqualByComparingTo("100.00");
+        assertThat(priceOf(deletedCourse.getId())).isEqualByComparingTo("100.00");
+
+        mockMvc.perform(get("/api/v1/admin/courses/repricing-jobs/{id}", jobId).with(admin()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.processedCourses").value(5));
+    }
+
+    @Test
+    @DisplayName("Deve retomar um job interrompido a partir do cursor gravado, sem reaplicar a regra")
+    void resumePending_ShouldContinueStaleJobFromItsCursor() {
+        UUID tenantId = newTenant();
+        for (int i = 0; i < 4; i++) {
+            course(tenantId, UUID.randomUUID());
+        }
+        List<UUID> orderedIds = jdbcTemplate.queryForList(
+                "SELECT id FROM courses WHERE tenant_id = ? ORDER BY id", UUID.class, tenantId);
+
+        CourseRepricingJob job = jobRepository.save(CourseRepricingJob.builder()
+                .tenantId(tenantId)
+                .rule(RepricingRule.FIXED_PRICE)
+                .ruleValue(new BigDecimal("49.90"))
+                .status(RepricingJobStatus.RUNNING)
+                .totalCourses(4)
+                .processedCourses(2)
+                .lastCourseId(orderedIds.get(1))
+                .createdBy(UUID.randomUUID())
+                .build());
+        jdbcTemplate.update("UPDATE course_repricing_jobs SET updated_at = LOCALTIMESTAMP - INTERVAL '1 hour' WHERE id = ?",
+                job.getId());
+
+        repricingRunner.resumePending();
+        CourseRepricingJob finished = awaitFinished(job.getId());
+
+        assertThat(finished.getStatus()).isEqualTo(RepricingJobStatus.COMPLETED);
+        assertThat(finished.getProcessedCourses()).isEqualTo(4);
+        assertThat(priceOf(orderedIds.get(0))).isEqualByComparingTo("100.00");
+        assertThat(priceOf(orderedIds.get(1))).isEqualByComparingTo("100.00");
+        assertThat(priceOf(orderedIds.get(2))).isEqualByComparingTo("49.90");
+        assertThat(priceOf(orderedIds.get(3))).isEqualByComparingTo("49.90");
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 Bad Request para desconto acima de 100%")
+    void createJob_WhenDiscountIsAbove100_ShouldReturn400BadRequest() throws Exception {
+        String body = "{\"tenantId\":\"" + UUID.randomUUID() + "\",\"rule\":\"PERCENTAGE_DISCOUNT\",\"value\":150}";
+        mockMvc.perform(post("/api/v1/admin/courses/repricing-jobs")
+                        .with(admin())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 Bad Request para preço fixo que não cabe na coluna de preço")
+    void createJob_WhenFixedPriceExceedsPriceColumn_ShouldReturn400BadRequest() throws Exception {
+        for (String value : new String[]{"100000000", "10.005"}) {
+            String body = "{\"tenantId\":\"" + UUID.randomUUID() + "\",\"rule\":\"FIXED_PRICE\",\"value\":" + value + "}";
+            mockMvc.perform(post("/api/v1/admin/courses/repricing-jobs")
+                            .with(admin())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar 403 Forbidden quando o usuário não for ADMIN")
+    void createJob_WhenUserIsInstructor_ShouldReturn403Forbidden() throws Exception {
+        String body = "{\"tenantId\":\"" + UUID.randomUUID() + "\",\"rule\":\"FIXED_PRICE\",\"value\":10}";
+        mockMvc.perform(post("/api/v1/admin/courses/repricing-jobs")
+                        .with(jwt().jwt(j -> j.subject(UUID.randomUUID().toString()).claim("roles", Collections.singletonList("INSTRUTOR")))
+                                .authorities(authoritiesConverter()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -1,10 +1,13 @@
 package br.com.maestria.maestria_course_service.controller;
 
 
+import br.com.maestria.maestria_course_service.dto.request.BatchGetCoursesRequest;
 import br.com.maestria.maestria_course_service.dto.request.CreateCourseRequest;
 import br.com.maestria.maestria_course_service.dto.request.UpdateCourseRequest;
 import br.com.maestria.maestria_course_service.entity.Course;
+import br.com.maestria.maestria_course_service.idempotency.IdempotencyKeyCleaner;
 import br.com.maestria.maestria_course_service.repository.CourseRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,17 +17,35 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.maestria.maestria_course_service.observability.QueryCountMatchers.maxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -42,9 +63,25 @@ class CourseControllerTest {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdempotencyKeyCleaner idempotencyKeyCleaner;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
     @AfterEach
     void tearDown() {
-        courseRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM courses");
+    }
+
+    private static byte[] uuidBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
     }
 
     private JwtGrantedAuthoritiesConverter authoritiesConverter() {
@@ -76,6 +113,7 @@ class CourseControllerTest {
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(request)))
                     .andExpect(status().isCreated())
+                    .andExpect(maxQueries(1))
                     .andExpect(jsonPath("$.id").isNotEmpty())
                     .andExpect(jsonPath("$.title").value("Curso de Teste de Integração"))
                     .andExpect(jsonPath("$.price").value(99.90));;
@@ -114,9 +152,176 @@ class CourseControllerTest {
 
             mockMvc.perform(get("/api/v1/courses"))
                     .andExpect(status().isOk())
+                    .andExpect(maxQueries(1))
                     .andExpect(jsonPath("$[0].title").value("Curso Público"))
                     .andExpect(jsonPath("$[0].price").value(49.99));
         }
+
+        @Test
+        @DisplayName("Deve retornar apenas os cursos do tenant informado")
+        void getAllCourses_WhenTenantIdGiven_ShouldReturnOnlyTenantCourses() throws Exception {
+            UUID tenantId = UUID.randomUUID();
+            courseRepository.save(Course.builder()
+                    .title("Curso do Tenant")
+                    .description("Desc")
+                    .price(new BigDecimal("10.00"))
+                    .instructorId(UUID.randomUUID())
+                    .tenantId(tenantId)
+                    .build());
+            courseRepository.save(Course.builder()
+                    .title("Curso de Outro Tenant")
+                    .description("Desc")
+                    .price(new BigDecimal("10.00"))
+                    .instructorId(UUID.randomUUID())
+                    .tenantId(UUID.randomUUID())
+                    .build());
+
+            mockMvc.perform(get("/api/v1/courses").param("tenantId", tenantId.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(maxQueries(1))
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].title").value("Curso do Tenant"));
+        }
+
+        @Test
+        @DisplayName("Deve retornar a lista em CBOR quando solicitado e JSON por padrão para navegadores")
+        void getAllCourses_ShouldNegotiateCborAndDefaultToJson() throws Exception {
+            UUID tenantId = UUID.randomUUID();
+            Course course = courseRepository.save(Course.builder()
+                    .title("Curso Binário")
+                    .description("Desc")
+                    .price(new BigDecimal("10.50"))
+                    .instructorId(UUID.randomUUID())
+                    .tenantId(tenantId)
+                    .build());
+
+            byte[] body = mockMvc.perform(get("/api/v1/courses").param("tenantId", tenantId.toString())
+                            .accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                    .andExpect(maxQueries(1))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            JsonNode courses = cborHttpMessageConverter.getObjectMapper().readTree(body);
+            assertThat(courses.size()).isEqualTo(1);
+            assertThat(courses.get(0).get("id").binaryValue()).isEqualTo(uuidBytes(course.getId()));
+            assertThat(courses.get(0).get("title").asText()).isEqualTo("Curso Binário");
+            assertThat(courses.get(0).get("price").decimalValue()).isEqualByComparingTo("10.50");
+
+            mockMvc.perform(get("/api/v1/courses").param("tenantId", tenantId.toString())
+                            .header("Accept", "text/html,application/xhtml+xml,*/*;q=0.8"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$[0].title").value("Curso Binário"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/courses - Idempotency-Key")
+    class IdempotentCreateCourseTests {
+
+        private final UUID instructorId = UUID.randomUUID();
+        private final UUID tenantId = UUID.randomUUID();
+
+        @AfterEach
+        void deleteKeys() {
+            jdbcTemplate.update("DELETE FROM idempotency_keys WHERE owner_id = ?", instructorId);
+        }
+
+        private MockHttpServletRequestBuilder create(String idempotencyKey, String title) throws Exception {
+            CreateCourseRequest request = new CreateCourseRequest();
+            request.setTitle(title);
+            request.setDescription("Descrição");
+            request.setPrice(new BigDecimal("80.00"));
+            return post("/api/v1/courses")
+                    .with(jwt().jwt(j -> j
+                                    .subject(instructorId.toString())
+                                    .claim("tenantId", tenantId.toString())
+                                    .claim("roles", Collections.singletonList("INSTRUTOR")))
+                            .authorities(authoritiesConverter()))
+                    .header(CourseController.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request));
+        }
+
+        private int coursesInTenant() {
+            return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM courses WHERE tenant_id = ?", Integer.class, tenantId);
+        }
+
+        @Test
+        @DisplayName("Deve repetir a resposta original sem criar outro curso")
+        void createCourse_WhenKeyIsRepeated_ShouldReplayStoredResponse() throws Exception {
+            String first = mockMvc.perform(create("chave-1", "Curso Idempotente"))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().doesNotExist(CourseController.IDEMPOTENT_REPLAYED_HEADER))
+                    .andReturn().getResponse().getContentAsString();
+
+            String replay = mockMvc.perform(create("chave-1", "Curso Idempotente"))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string(CourseController.IDEMPOTENT_REPLAYED_HEADER, "true"))
+                    .andExpect(maxQueries(2))
+                    .andReturn().getResponse().getContentAsString();
+
+            assertThat(objectMapper.readTree(replay)).isEqualTo(objectMapper.readTree(first));
+            assertThat(coursesInTenant()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve retornar 422 quando a chave for reutilizada com outra requisição")
+        void createCourse_WhenKeyIsReusedWithDifferentBody_ShouldReturn422() throws Exception {
+            mockMvc.perform(create("chave-2", "Curso Original"))
+                    .andExpect(status().isCreated());
+
+            mockMvc.perform(create("chave-2", "Outro Curso"))
+                    .andExpect(status().isUnprocessableEntity());
+
+            assertThat(coursesInTenant()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve criar um único curso para requisições concorrentes com a mesma chave")
+        void createCourse_WhenDuplicatesAreConcurrent_ShouldInsertOnce() throws Exception {
+            int requests = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(requests);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<String>> responses = new ArrayList<>();
+                for (int i = 0; i < requests; i++) {
+                    responses.add(executor.submit(() -> {
+                        start.await();
+                        return mockMvc.perform(create("chave-concorrente", "Curso Concorrente"))
+                                .andExpect(status().isCreated())
+                                .andReturn().getResponse().getContentAsString();
+                    }));
+                }
+                start.countDown();
+
+                Set<String> courseIds = new HashSet<>();
+                for (Future<String> response : responses) {
+                    courseIds.add(objectMapper.readTree(response.get(30, TimeUnit.SECONDS)).get("id").asText());
+                }
+                assertThat(courseIds).hasSize(1);
+                assertThat(coursesInTenant()).isEqualTo(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Deve remover apenas as chaves expiradas")
+        void deleteExpired_ShouldRemoveOnlyExpiredKeys() throws Exception {
+            mockMvc.perform(create("chave-valida", "Curso Válido"))
+                    .andExpect(status().isCreated());
+            jdbcTemplate.update("INSERT INTO idempotency_keys (owner_id, idempotency_key, request_fingerprint, created_at, expires_at)"
+                    + " VALUES (?, 'chave-expirada', 'x', LOCALTIMESTAMP - INTERVAL '2 days', LOCALTIMESTAMP - INTERVAL '1 day')",
+                    instructorId);
+
+            idempotencyKeyCleaner.deleteExpired();
+
+            assertThat(jdbcTemplate.queryForList(
+                    "SELECT idempotency_key FROM idempotency_keys WHERE owner_id = ?", String.class, instructorId))
+                    .containsExactly("chave-valida");
+        }
     }
 
     @Nested
@@ -142,6 +347,7 @@ class CourseControllerTest {
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(request)))
                     .andExpect(status().isCreated())
+                    .andExpect(maxQueries(1))
                     .andExpect(jsonPath("$.title").value("Curso Criado por Instrutor"));
         }
     }
@@ -163,16 +369,87 @@ class CourseControllerTest {
 
             mockMvc.perform(get("/api/v1/courses/{id}", course.getId()))
                     .andExpect(status().isOk())
+                    .andExpect(maxQueries(1))
                     .andExpect(jsonPath("$.id").value(course.getId().toString()))
                     .andExpect(jsonPath("$.title").value("Curso por ID"))
                     .andExpect(jsonPath("$.price").value(49.99));
         }
 
+        @Test
+        @DisplayName("Deve retornar o curso em CBOR quando solicitado")
+        void getCourseById_WhenCborIsAccepted_ShouldReturnCbor() throws Exception {
+            Course course = courseRepository.save(Course.builder()
+                    .title("Curso por ID")
+                    .description("Desc")
+                    .price(new BigDecimal("49.99"))
+                    .instructorId(UUID.randomUUID())
+                    .tenantId(UUID.randomUUID())
+                    .build());
+
+            byte[] body = mockMvc.perform(get("/api/v1/courses/{id}", course.getId())
+                            .accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            JsonNode response = cborHttpMessageConverter.getObjectMapper().readTree(body);
+            assertThat(response.get("id").binaryValue()).isEqualTo(uuidBytes(course.getId()));
+            assertThat(response.get("price").decimalValue()).isEqualByComparingTo("49.99");
+            assertThat(response.get("createdAt").isTextual()).isTrue();
+        }
+
         @Test
         @DisplayName("Deve retornar 404 Not Found quando o ID não existe")
         void getCourseById_WhenCourseDoesNotExist_ShouldReturn404NotFound() throws Exception {
             mockMvc.perform(get("/api/v1/courses/{id}", UUID.randomUUID()))
-                    .andExpect(status().isNotFound());
+                    .andExpect(status().isNotFound())
+                    .andExpect(maxQueries(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/courses/batch-get - Busca em Lote")
+    class BatchGetCoursesTests {
+
+        @Test
+        @DisplayName("Deve retornar os cursos na ordem pedida e informar os IDs inexistentes")
+        void batchGetCourses_ShouldPreserveOrderAndReportMissingIds() throws Exception {
+            Course first = courseRepository.save(Course.builder()
+                    .title("Primeiro")
+                    .description("Desc")
+                    .price(new BigDecimal("10.00"))
+                    .instructorId(UUID.randomUUID())
+                    .tenantId(UUID.randomUUID())
+                    .build());
+            Course second = courseRepository.save(Course.builder()
+                    .title("Segundo")
+                    .description("Desc")
+                    .price(new BigDecimal("20.00"))
+                    .instructorId(UUID.randomUUID())
+                    .tenantId(UUID.randomUUID())
+                    .build());
+            UUID missingId = UUID.randomUUID();
+
+            BatchGetCoursesRequest request = new BatchGetCoursesRequest();
+            request.setIds(Arrays.asList(second.getId(), missingId, first.getId()));
+
+            mockMvc.perform(post("/api/v1/courses/batch-get")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(maxQueries(1))
+                    .andExpect(jsonPath("$.courses[0].title").value("Segundo"))
+                    .andExpect(jsonPath("$.courses[1].title").value("Primeiro"))
+                    .andExpect(jsonPath("$.missingIds[0]").value(missingId.toString()));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 Bad Request quando nenhum ID é informado")
+        void batchGetCourses_WhenNoIds_ShouldReturn400BadRequest() throws Exception {
+            mockMvc.perform(post("/api/v1/courses/batch-get")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\":[]}"))
+                    .andExpect(status().isBadRequest());
         }
     }
 
@@ -208,6 +485,7 @@ class CourseControllerTest {
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(request)))
                     .andExpect(status().isOk())
+                    .andExpect(maxQueries(2))
                     .andExpect(jsonPath("$.title").value("Atualizado pelo Dono"))
                     .andExpect(jsonPath("$.price").value(12.50));
         }
@@ -237,6 +515,7 @@ class CourseControllerTest {
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(request)))
                     .andExpect(status().isOk())
+                    .andExpect(maxQueries(2))
                     .andExpect(jsonPath("$.title").value("Atualizado pelo Admin"));
         }
 
@@ -262,7 +541,8 @@ class CourseControllerTest {
                             )
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(request)))
-                    .andExpect(status().isForbidden());
+                    .andExpect(status().isForbidden())
+                    .andExpect(maxQueries(1));
         }
     }
 
@@ -290,7 +570,8 @@ class CourseControllerTest {
                             .with(jwt().jwt(j -> j.subject(ownerInstructorId.toString()).claim("roles", Collections.singletonList("INSTRUTOR")))
                                     .authorities(authoritiesConverter())
                             ))
-                    .andExpect(status().isNoContent());
+                    .andExpect(status().isNoContent())
+                    .andExpect(maxQueries(2));
         }
 
         @Test
@@ -307,11 +588,38 @@ class CourseControllerTest {
                             .build()
             );
 
+            mockMvc.perform(delete("/api/v1/courses/{id}", course.getId())
+                            .with(jwt().jwt(j -> j.subject(UUID.randomUUID().toString()).claim("roles", Collections.singletonList("ADMIN")))
+                                    .authorities(authoritiesConverter())
+                            ))
+                    .andExpect(status().isNoContent())
+                    .andExpect(maxQueries(2));
+        }
+
+        @Test
+        @DisplayName("Deve manter a linha com deleted_at preenchido e ocultá-la das leituras")
+        void deleteCourse_ShouldSoftDeleteAndHideFromReads() throws Exception {
+            Course course = courseRepository.save(
+                    Course.builder()
+                            .title("Exclusão lógica")
+                            .description("Desc")
+                            .price(new BigDecimal("2.00"))
+                            .instructorId(ownerInstructorId)
+                            .tenantId(tenantId)
+                            .build()
+            );
+
             mockMvc.perform(delete("/api/v1/courses/{id}", course.getId())
                             .with(jwt().jwt(j -> j.subject(UUID.randomUUID().toString()).claim("roles", Collections.singletonList("ADMIN")))
                                     .authorities(authoritiesConverter())
                             ))
                     .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/api/v1/courses/{id}", course.getId()))
+                    .andExpect(status().isNotFound());
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM courses WHERE id = ? AND deleted_at IS NOT NULL", Integer.class, course.getId()))
+                    .isEqualTo(1);
         }
 
         @Test
@@ -0,0 +1,161 @@
+package br.com.maestria.maestria_course_service.controller;
+
+import br.com.maestria.maestria_course_service.entity.Course;
+import br.com.maestria.maestria_course_service.repository.CourseReactiveRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Os dados são gravados pelo próprio R2DBC: no perfil de testes a URL {@code r2dbc:tc} pode apontar para um
+ * contêiner diferente do usado pelo JDBC, então a tabela é criada ali se ainda não existir.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReactiveCourseControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private CourseReactiveRepository courseReactiveRepository;
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    @BeforeEach
+    void createTable() {
+        databaseClient.sql("CREATE TABLE IF NOT EXISTS courses ("
+                        + "id UUID NOT NULL PRIMARY KEY, title VARCHAR(255) NOT NULL, description TEXT,"
+                        + " price NUMERIC(10, 2) NOT NULL, tenant_id UUID NOT NULL, instructor_id UUID NOT NULL,"
+                        + " created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, deleted_at TIMESTAMP)")
+                .then()
+                .block();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseClient.sql("DELETE FROM courses WHERE tenant_id = :tenantId")
+                .bind("tenantId", tenantId)
+                .then()
+                .block();
+    }
+
+    private UUID insert(String title, LocalDateTime deletedAt) {
+        UUID id = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        DatabaseClient.GenericExecuteSpec insert = databaseClient.sql("INSERT INTO courses"
+                        + " (id, title, description, price, tenant_id, instructor_id, created_at, updated_at, deleted_at)"
+                        + " VALUES (:id, :title, 'Desc', :price, :tenantId, :instructorId, :now, :now, :deletedAt)")
+                .bind("id", id)
+                .bind("title", title)
+                .bind("price", new BigDecimal("10.00"))
+                .bind("tenantId", tenantId)
+                .bind("instructorId", UUID.randomUUID())
+                .bind("now", now);
+        insert = deletedAt != null ? insert.bind("deletedAt", deletedAt) : insert.bindNull("deletedAt", LocalDateTime.class);
+        insert.then().block();
+        return id;
+    }
+
+    @Test
+    @DisplayName("Deve transmitir os cursos ativos em NDJSON, sem os excluídos")
+    void getAllCourses_ShouldStreamActiveCoursesAsNdjson() throws Exception {
+        UUID active = insert("Curso ativo", null);
+        UUID deleted = insert("Curso excluído", LocalDateTime.now());
+
+        MvcResult started = mockMvc.perform(get("/api/v1/courses/stream").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> ids = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            if (!line.trim().isEmpty()) {
+                ids.add(objectMapper.readTree(line).get("id").asText());
+            }
+        }
+        assertThat(ids).contains(active.toString()).doesNotContain(deleted.toString());
+    }
+
+    @Test
+    @DisplayName("Deve retornar o curso ativo por ID")
+    void getCourseById_WhenCourseIsActive_ShouldReturn200() throws Exception {
+        UUID active = insert("Curso ativo", null);
+
+        MvcResult started = mockMvc.perform(get("/api/v1/courses/stream/{id}", active))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Curso ativo"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para curso excluído ou inexistente")
+    void getCourseById_WhenCourseIsDeletedOrMissing_ShouldReturn404() throws Exception {
+        UUID deleted = insert("Curso excluído", LocalDateTime.now());
+
+        for (UUID id : new UUID[]{deleted, UUID.randomUUID()}) {
+            MvcResult started = mockMvc.perform(get("/api/v1/courses/stream/{id}", id))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ignorar cursos excluídos nas consultas do repositório reativo")
+    void reactiveRepository_ShouldFilterDeletedCourses() {
+        UUID active = insert("Curso ativo", null);
+        UUID deleted = insert("Curso excluído", LocalDateTime.now());
+
+        StepVerifier.create(courseReactiveRepository.findById(deleted))
+                .verifyComplete();
+        StepVerifier.create(courseReactiveRepository.findById(active))
+                .expectNextMatches(course -> course.getTitle().equals("Curso ativo")
+                        && course.getTenantId().equals(tenantId)
+                        && course.getPrice().compareTo(new BigDecimal("10.00")) == 0)
+                .verifyComplete();
+        StepVerifier.create(courseReactiveRepository.findAll()
+                        .filter(course -> tenantId.equals(course.getTenantId()))
+                        .map(Course::getId))
+                .expectNext(active)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.maestria.maestria_course_service.observability;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserções de MockMvc sobre o cabeçalho {@code Server-Timing} escrito pelo {@link QueryBudgetFilter}.
+ */
+public final class QueryCountMatchers {
+
+    private static final Pattern QUERY_COUNT = Pattern.compile("db;desc=\"(\\d+) queries\"");
+
+    private QueryCountMatchers() {
+    }
+
+    public static ResultMatcher maxQueries(int max) {
+        return result -> assertThat(queryCount(result.getResponse().getHeader(QueryBudgetFilter.SERVER_TIMING_HEADER)))
+                .as("comandos SQL executados na requisição")
+                .isLessThanOrEqualTo(max);
+    }
+
+    public static int queryCount(String serverTiming) {
+        assertThat(serverTiming).as("cabeçalho Server-Timing").isNotNull();
+        Matcher matcher = QUERY_COUNT.matcher(serverTiming);
+        assertThat(matcher.find()).as("métrica db em '%s'", serverTiming).isTrue();
+        return Integer.parseInt(matcher.group(1));
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.maestria.maestria_course_service.observability;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QueryMetricsDataSourceTest {
+
+    private static final String SELECT_BY_ID = "select * from courses where id = ?";
+
+    @AfterEach
+    void tearDown() {
+        QueryMetrics.end();
+    }
+
+    private DataSource dataSource() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        return new QueryMetricsDataSource(target);
+    }
+
+    @Test
+    @DisplayName("Deve contar cada execução de statement dentro do escopo da requisição")
+    void shouldCountExecutionsInsideScope() throws Exception {
+        DataSource dataSource = dataSource();
+        QueryMetrics metrics = QueryMetrics.begin();
+
+        try (Connection connection = dataSource.getConnection()) {
+            PreparedStatement statement = connection.prepareStatement(SELECT_BY_ID);
+            statement.executeQuery();
+            statement.executeQuery();
+            connection.createStatement().execute("select 1");
+        }
+
+        assertThat(metrics.getStatementCount()).isEqualTo(3);
+        assertThat(metrics.repeatedStatements(2)).containsEntry(SELECT_BY_ID, 2).doesNotContainKey("select 1");
+    }
+
+    @Test
+    @DisplayName("Não deve contabilizar execuções fora de uma requisição")
+    void shouldIgnoreExecutionsOutsideScope() throws Exception {
+        DataSource dataSource = dataSource();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement(SELECT_BY_ID).executeQuery();
+        }
+        QueryMetrics metrics = QueryMetrics.begin();
+
+        assertThat(metrics.getStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve formatar o cabeçalho Server-Timing com a contagem de comandos")
+    void shouldFormatServerTiming() {
+        QueryMetrics metrics = QueryMetrics.begin();
+        QueryMetrics.record(SELECT_BY_ID, 1_500_000);
+
+        assertThat(QueryBudgetFilter.serverTiming(metrics)).isEqualTo("db;desc=\"1 queries\";dur=1.50");
+        assertThat(QueryCountMatchers.queryCount(QueryBudgetFilter.serverTiming(metrics))).isEqualTo(1);
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.maestria.maestria_course_service.repository;
+
+import br.com.maestria.maestria_course_service.dto.request.UpdateCourseRequest;
+import br.com.maestria.maestria_course_service.entity.Course;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Roda sobre o schema criado pelas migrações do Flyway (tabela {@code courses} particionada por tenant), com o
+ * Hibernate apenas validando o mapeamento, em um schema próprio para não disputar com o {@code create-drop} dos
+ * demais testes.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.schemas=flyway_validated",
+        "spring.datasource.hikari.connection-init-sql=SET search_path TO flyway_validated",
+        "course.warmup.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PartitionedCourseSchemaTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID instructorId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM courses WHERE tenant_id = ?", tenantId);
+    }
+
+    private JwtGrantedAuthoritiesConverter authoritiesConverter() {
+        JwtGrantedAuthoritiesConverter converter = new JwtGrantedAuthoritiesConverter();
+        converter.setAuthorityPrefix("ROLE_");
+        converter.setAuthoritiesClaimName("roles");
+        return converter;
+    }
+
+    private RequestPostProcessor owner() {
+        return jwt().jwt(j -> j.subject(instructorId.toString()).claim("roles", Collections.singletonList("INSTRUTOR")))
+                .authorities(authoritiesConverter());
+    }
+
+    private Course save(String title) {
+        return courseRepository.save(Course.builder()
+                .title(title)
+                .description("Desc")
+                .price(new BigDecimal("10.00"))
+                .instructorId(instructorId)
+                .tenantId(tenantId)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Deve gravar os cursos em partições da tabela courses")
+    void save_ShouldStoreCourseInTenantPartition() {
+        Course course = save("Curso particionado");
+
+        String partition = jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM courses WHERE id = ?", String.class, course.getId());
+
+        assertThat(partition).startsWith("courses_p");
+    }
+
+    @Test
+    @DisplayName("Deve listar os cursos do tenant, atualizar e excluir por ID no schema particionado")
+    void tenantListUpdateAndDelete_ShouldWorkOnPartitionedSchema() throws Exception {
+        Course updated = save("Curso A");
+        Course removed = save("Curso B");
+
+        mockMvc.perform(get("/api/v1/courses").param("tenantId", tenantId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", containsInAnyOrder("Curso A", "Curso B")));
+
+        UpdateCourseRequest request = new UpdateCourseRequest();
+        request.setTitle("Curso A revisado");
+        request.setDescription("Nova desc");
+        request.setPrice(new BigDecimal("12.50"));
+        mockMvc.perform(put("/api/v1/courses/{id}", updated.getId())
+                        .with(owner())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Curso A revisado"));
+
+        mockMvc.perform(delete("/api/v1/courses/{id}", removed.getId()).with(owner()))
+                .andExpect(status().isNoContent());
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT price FROM courses WHERE id = ?", BigDecimal.class, updated.getId())).isEqualByComparingTo("12.50");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT deleted_at IS NOT NULL FROM courses WHERE id = ?", Boolean.class, removed.getId())).isTrue();
+        mockMvc.perform(get("/api/v1/courses").param("tenantId", tenantId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", containsInAnyOrder("Curso A revisado")));
+        mockMvc.perform(get("/api/v1/courses/{id}", removed.getId()))
+                .andExpect(status().isNotFound());
+    }
+}
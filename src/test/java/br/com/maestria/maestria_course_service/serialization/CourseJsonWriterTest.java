@@ -0,0 +1,105 @@
+package br.com.maestria.maestria_course_service.serialization;
+
+import br.com.maestria.maestria_course_service.dto.response.CourseResponse;
+import br.com.maestria.maestria_course_service.entity.Course;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class CourseJsonWriterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.json()
+            .factory(new CBORFactory())
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    @DisplayName("Deve produzir os mesmos bytes que o Jackson gera para a lista de CourseResponse")
+    void writeCourses_ShouldMatchJacksonOutputByteForByte() throws IOException {
+        List<Course> courses = Arrays.asList(
+                course("Curso \"Avançado\" de Java", "Linha 1\nLinha 2 ✓", "99.90",
+                        LocalDateTime.of(2024, 1, 5, 9, 0), LocalDateTime.of(2024, 1, 5, 9, 0, 0, 120_000_000)),
+                course("Curso Gratuito", null, "0.00",
+                        LocalDateTime.of(2023, 12, 31, 23, 59, 59, 1), LocalDateTime.of(999, 2, 3, 4, 5, 6, 123_456_789)),
+                course("Preço sem escala", "", "1500",
+                        LocalDateTime.of(2024, 6, 1, 12, 30, 15), null),
+                course("Preços extremos", "x", "-12345678.05",
+                        LocalDateTime.of(2024, 6, 1, 0, 0, 0, 100_000), LocalDateTime.of(2024, 6, 1, 0, 0)),
+                course("Notação científica", "x", "0.000000001", null, null),
+                course("Sem preço", "x", null, null, null));
+
+        assertArrayEquals(jacksonBytes(courses), writerBytes(courses));
+    }
+
+    @Test
+    @DisplayName("Deve produzir os mesmos bytes CBOR que o Jackson, com UUIDs binários e preços decimais")
+    void writeCourses_WhenGeneratorIsCbor_ShouldMatchJacksonCborOutputByteForByte() throws IOException {
+        List<Course> courses = Arrays.asList(
+                course("Curso \"Avançado\" de Java", "Linha 1\nLinha 2 ✓", "99.90",
+                        LocalDateTime.of(2024, 1, 5, 9, 0), LocalDateTime.of(2024, 1, 5, 9, 0, 0, 120_000_000)),
+                course("Preço sem escala", "", "1500", LocalDateTime.of(2024, 6, 1, 12, 30, 15), null),
+                course("Notação científica", "x", "0.000000001", null, null),
+                course("Sem preço", null, null, null, null));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = cborMapper.getFactory().createGenerator(out)) {
+            new CourseJsonWriter(generator).writeCourses(courses);
+        }
+
+        assertArrayEquals(
+                cborMapper.writeValueAsBytes(courses.stream().map(CourseResponse::from).collect(Collectors.toList())),
+                out.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Deve produzir um array vazio igual ao do Jackson quando não há cursos")
+    void writeCourses_WhenEmpty_ShouldMatchJacksonOutput() throws IOException {
+        assertArrayEquals(jacksonBytes(Collections.emptyList()), writerBytes(Collections.emptyList()));
+    }
+
+    private Course course(String title, String description, String price, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return Course.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .description(description)
+                .price(price == null ? null : new BigDecimal(price))
+                .instructorId(UUID.randomUUID())
+                .tenantId(UUID.randomUUID())
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private byte[] jacksonBytes(List<Course> courses) throws IOException {
+        return objectMapper.writeValueAsBytes(courses.stream().map(CourseResponse::from).collect(Collectors.toList()));
+    }
+
+    private byte[] writerBytes(List<Course> courses) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            new CourseJsonWriter(generator).writeCourses(courses);
+        }
+        return out.toByteArray();
+    }
+}
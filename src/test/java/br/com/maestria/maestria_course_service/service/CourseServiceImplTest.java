@@ -1,25 +1,32 @@
 package br.com.maestria.maestria_course_service.service;
 
+import br.com.maestria.maestria_course_service.cache.CourseCache;
+import br.com.maestria.maestria_course_service.cache.CourseInvalidationBus;
+import br.com.maestria.maestria_course_service.cache.LastKnownGoodCache;
 import br.com.maestria.maestria_course_service.dto.request.CreateCourseRequest;
 import br.com.maestria.maestria_course_service.dto.request.UpdateCourseRequest;
 import br.com.maestria.maestria_course_service.entity.Course;
+import br.com.maestria.maestria_course_service.exception.CircuitOpenException;
 import br.com.maestria.maestria_course_service.exception.ResourceNotFoundException;
 import br.com.maestria.maestria_course_service.repository.CourseRepository;
+import br.com.maestria.maestria_course_service.support.CircuitBreaker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.security.oauth2.jwt.Jwt;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,8 +40,12 @@ class CourseServiceImplTest {
     @Mock
     private CourseRepository courseRepository;
 
-    @InjectMocks
+    @Mock
+    private CourseInvalidationBus courseInvalidationBus;
+
     private CourseServiceImpl courseService;
+    private CourseCache courseCache;
+    private CourseReadFallback courseReadFallback;
 
     private Jwt mockJwt;
     private UUID instructorId;
@@ -43,6 +54,11 @@ class CourseServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        courseCache = new CourseCache(Duration.ofMinutes(5), 100);
+        courseReadFallback = new CourseReadFallback(new LastKnownGoodCache(Duration.ofHours(1), 100),
+                2, Duration.ofMinutes(1), Duration.ofSeconds(5), 1, 10);
+        courseService = new CourseServiceImpl(courseRepository, courseCache, courseInvalidationBus,
+                courseReadFallback, Duration.ofSeconds(1));
         instructorId = UUID.randomUUID();
         tenantId = UUID.randomUUID();
         courseId = UUID.randomUUID();
@@ -94,6 +110,19 @@ class CourseServiceImplTest {
             verify(courseRepository, times(1)).findById(courseId);
         }
 
+        @Test
+        @DisplayName("Deve servir leituras repetidas do cache local sem consultar o repositório")
+        void findById_WhenCalledTwice_ShouldHitRepositoryOnce() {
+            Course course = Course.builder().id(courseId).title("Curso em cache").build();
+            when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
+
+            courseService.findById(courseId);
+            Optional<Course> result = courseService.findById(courseId);
+
+            assertTrue(result.isPresent());
+            verify(courseRepository, times(1)).findById(courseId);
+        }
+
         @Test
         @DisplayName("Deve retornar um Optional vazio quando o ID não existe")
         void findById_WhenCourseDoesNotExist_ShouldReturnEmptyOptional() {
@@ -118,6 +147,37 @@ class CourseServiceImplTest {
             verify(courseRepository, times(1)).findAll();
         }
 
+        @Test
+        @DisplayName("Deve buscar apenas os cursos do tenant informado")
+        void findAllByTenant_ShouldQueryByTenantId() {
+            List<Course> courses = Collections.singletonList(Course.builder().tenantId(tenantId).build());
+            when(courseRepository.findByTenantId(tenantId)).thenReturn(courses);
+
+            List<Course> result = courseService.findAllByTenant(tenantId);
+
+            assertEquals(1, result.size());
+            verify(courseRepository, times(1)).findByTenantId(tenantId);
+            verify(courseRepository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("Deve consultar o banco apenas pelos IDs que não estão no cache")
+        void findAllByIds_ShouldQueryOnlyIdsMissingFromCache() {
+            UUID cachedId = courseId;
+            UUID uncachedId = UUID.randomUUID();
+            when(courseRepository.findById(cachedId)).thenReturn(Optional.of(Course.builder().id(cachedId).build()));
+            courseService.findById(cachedId);
+            when(courseRepository.findAllByIds(any(UUID[].class)))
+                    .thenReturn(Collections.singletonList(Course.builder().id(uncachedId).build()));
+
+            Map<UUID, Course> result = courseService.findAllByIds(Arrays.asList(cachedId, uncachedId, UUID.randomUUID()));
+
+            assertEquals(2, result.size());
+            assertTrue(result.containsKey(cachedId));
+            assertTrue(result.containsKey(uncachedId));
+            verify(courseRepository, times(1)).findAllByIds(any(UUID[].class));
+        }
+
         @Test
         @DisplayName("Deve retornar uma lista vazia quando não existem cursos")
         void findAll_WhenNoCoursesExist_ShouldReturnEmptyList() {
@@ -155,6 +215,7 @@ class CourseServiceImplTest {
             assertEquals(request.getPrice(), updatedCourse.getPrice());
             verify(courseRepository, times(1)).findById(courseId);
             verify(courseRepository, times(1)).save(existingCourse);
+            verify(courseInvalidationBus, times(1)).invalidate(courseId);
         }
 
         @Test
@@ -182,6 +243,65 @@ class CourseServiceImplTest {
         void deleteCourse_WhenCourseExists_ShouldCallDeleteById() {
             courseService.deleteCourse(courseId, mockJwt);
             verify(courseRepository, times(1)).deleteById(courseId);
+            verify(courseInvalidationBus, times(1)).invalidateDeleted(courseId);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para leituras com o banco indisponível")
+    class StaleReadTests {
+
+        private final DataAccessResourceFailureException databaseDown =
+                new DataAccessResourceFailureException("conexão recusada");
+
+        @Test
+        @DisplayName("Deve devolver o último curso conhecido quando o banco falha")
+        void findById_WhenDatabaseFails_ShouldReturnLastKnownGoodCourse() {
+            Course course = Course.builder().id(courseId).title("Curso Antigo").build();
+            when(courseRepository.findById(courseId))
+                    .thenReturn(Optional.of(course))
+                    .thenThrow(databaseDown);
+
+            courseService.findById(courseId);
+            courseCache.clear();
+            Optional<Course> result = courseService.findById(courseId);
+
+            assertTrue(result.isPresent());
+            assertEquals("Curso Antigo", result.get().getTitle());
+        }
+
+        @Test
+        @DisplayName("Deve propagar a falha quando não há dado conhecido")
+        void findAll_WhenDatabaseFailsWithoutLastKnownGood_ShouldThrow() {
+            when(courseRepository.findAll()).thenThrow(databaseDown);
+
+            assertThrows(DataAccessResourceFailureException.class, () -> courseService.findAll());
+        }
+
+        @Test
+        @DisplayName("Deve abrir o circuito e parar de consultar o banco após falhas consecutivas")
+        void findAllByTenant_AfterConsecutiveFailures_ShouldOpenCircuit() {
+            when(courseRepository.findByTenantId(tenantId)).thenThrow(databaseDown);
+
+            assertThrows(DataAccessResourceFailureException.class, () -> courseService.findAllByTenant(tenantId));
+            assertThrows(DataAccessResourceFailureException.class, () -> courseService.findAllByTenant(tenantId));
+            assertThrows(CircuitOpenException.class, () -> courseService.findAllByTenant(tenantId));
+
+            assertEquals(CircuitBreaker.State.OPEN, courseReadFallback.circuitState());
+            verify(courseRepository, times(2)).findByTenantId(tenantId);
+        }
+
+        @Test
+        @DisplayName("Não deve abrir o circuito por erros que não são de acesso a dados")
+        void findAllByTenant_WhenFailureIsNotDataAccess_ShouldKeepCircuitClosed() {
+            when(courseRepository.findByTenantId(tenantId)).thenThrow(new IllegalStateException("bug"));
+
+            for (int i = 0; i < 3; i++) {
+                assertThrows(IllegalStateException.class, () -> courseService.findAllByTenant(tenantId));
+            }
+
+            assertEquals(CircuitBreaker.State.CLOSED, courseReadFallback.circuitState());
+            verify(courseRepository, times(3)).findByTenantId(tenantId);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package br.com.maestria.maestria_course_service.service;
+
+import br.com.maestria.maestria_course_service.entity.Course;
+import br.com.maestria.maestria_course_service.repository.CourseReactiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCourseServiceImplTest {
+
+    @Mock
+    private CourseReactiveRepository courseReactiveRepository;
+
+    @InjectMocks
+    private ReactiveCourseServiceImpl reactiveCourseService;
+
+    private UUID courseId;
+
+    @BeforeEach
+    void setUp() {
+        courseId = UUID.randomUUID();
+    }
+
+    @Nested
+    @DisplayName("Testes para busca reativa de cursos")
+    class FindCourseTests {
+
+        @Test
+        @DisplayName("Deve emitir o curso quando o ID existe")
+        void findById_WhenCourseExists_ShouldEmitCourse() {
+            Course course = Course.builder().id(courseId).title("Curso Reativo").build();
+            when(courseReactiveRepository.findById(courseId)).thenReturn(Mono.just(course));
+
+            StepVerifier.create(reactiveCourseService.findById(courseId))
+                    .expectNextMatches(result -> courseId.equals(result.getId()))
+                    .verifyComplete();
+
+            verify(courseReactiveRepository, times(1)).findById(courseId);
+        }
+
+        @Test
+        @DisplayName("Deve completar vazio quando o ID não existe")
+        void findById_WhenCourseDoesNotExist_ShouldCompleteEmpty() {
+            when(courseReactiveRepository.findById(courseId)).thenReturn(Mono.empty());
+
+            StepVerifier.create(reactiveCourseService.findById(courseId))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Deve respeitar a demanda do assinante ao emitir a lista de cursos")
+        void findAll_ShouldHonourSubscriberDemand() {
+            when(courseReactiveRepository.findAll()).thenReturn(Flux.just(new Course(), new Course(), new Course()));
+
+            StepVerifier.create(reactiveCourseService.findAll(), 1)
+                    .expectNextCount(1)
+                    .thenRequest(2)
+                    .expectNextCount(2)
+                    .verifyComplete();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package br.com.maestria.maestria_course_service.snapshot;
+
+import br.com.maestria.maestria_course_service.entity.Course;
+import br.com.maestria.maestria_course_service.repository.CourseRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static br.com.maestria.maestria_course_service.observability.QueryCountMatchers.maxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "course.snapshot.enabled=true",
+        "course.snapshot.directory=${java.io.tmpdir}/maestria-course-snapshots-test",
+        "course.snapshot.refresh-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CatalogSnapshotStoreTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CatalogSnapshotStore catalogSnapshotStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TempDir
+    Path directory;
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        courseRepository.deleteAll();
+    }
+
+    private Course save(String title) {
+        return save(title, tenantId);
+    }
+
+    private Course save(String title, UUID tenantId) {
+        return courseRepository.save(Course.builder()
+                .title(title)
+                .description("Desc")
+                .price(new BigDecimal("10.00"))
+                .instructorId(UUID.randomUUID())
+                .tenantId(tenantId)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Deve servir o catálogo do tenant a partir do snapshot sem consultar o banco")
+    void getAllCourses_WhenSnapshotBuilt_ShouldNotQueryDatabase() throws Exception {
+        save("Curso A");
+        save("Curso B");
+
+        mockMvc.perform(get("/api/v1/courses").param("tenantId", tenantId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(maxQueries(1))
+                .andExpect(jsonPath("$[*].title", containsInAnyOrder("Curso A", "Curso B")));
+
+        mockMvc.perform(get("/api/v1/courses").param("tenantId", tenantId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(maxQueries(0))
+                .andExpect(jsonPath("$[*].title", containsInAnyOrder("Curso A", "Curso B")));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar alterações, exclusões e inclusões na atualização incremental")
+    void refresh_ShouldApplyChangesSinceLastRefresh() throws Exception {
+        Course kept = save("Mantido");
+        Course renamed = save("Nome antigo");
+        Course removed = save("Removido");
+        mockMvc.perform(get("/api/v1/courses").param("tenantId", tenantId.toString()))
+                .andExpect(jsonPath("$.length()").value(3));
+
+        renamed.setTitle("Nome novo");
+        courseRepository.save(renamed);
+        courseRepository.deleteById(removed.getId());
+        save("Novo");
+        catalogSnapshotStore.refresh();
+
+        mockMvc.perform(get("/api/v1/courses").param("tenantId", tenantId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(maxQueries(0))
+                .andExpect(jsonPath("$[*].title", containsInAnyOrder(kept.getTitle(), "Nome novo", "Novo")));
+    }
+
+    @Test
+    @DisplayName("Não deve materializar catálogo para tenant sem cursos")
+    void getAllCourses_WhenTenantHasNoCourses_ShouldNotMaterializeSnapshot() throws Exception {
+        int tenantsBefore = catalogSnapshotStore.tenantCount();
+
+        mockMvc.perform(get("/api/v1/courses").param("tenantId", UUID.randomUUID().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        assertThat(catalogSnapshotStore.tenantCount()).isEqualTo(tenantsBefore);
+    }
+
+    @Test
+    @DisplayName("Deve descartar o tenant menos usado e apagar seu arquivo ao atingir o limite")
+    void find_WhenMaxTenantsReached_ShouldEvictLeastRecentlyUsed() throws Exception {
+        CatalogSnapshotStore store = newStore(1, Duration.ofMinutes(30));
+        UUID otherTenantId = UUID.randomUUID();
+        save("Curso A");
+        save("Curso B", otherTenantId);
+
+        assertThat(store.find(tenantId)).isPresent();
+        assertThat(store.find(otherTenantId)).isPresent();
+
+        assertThat(store.tenantCount()).isEqualTo(1);
+        assertThat(snapshotFiles()).hasSize(1).allMatch(file -> file.getFileName().toString().contains(otherTenantId.toString()));
+    }
+
+    @Test
+    @DisplayName("Deve descartar tenants ociosos e apagar seus arquivos na atualização")
+    void refresh_ShouldEvictIdleTenants() throws Exception {
+        CatalogSnapshotStore store = newStore(10, Duration.ofMillis(1));
+        save("Curso A");
+        assertThat(store.find(tenantId)).isPresent();
+
+        Thread.sleep(20);
+        store.refresh();
+
+        assertThat(store.tenantCount()).isZero();
+        assertThat(snapshotFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve materializar catálogo maior que o tamanho máximo de arquivo")
+    void find_WhenSnapshotExceedsMaxFileSize_ShouldFallBackToDatabase() throws Exception {
+        CatalogSnapshotStore store = newStore(10, Duration.ofMinutes(30), 64);
+        save("Curso com um título longo o bastante para passar do limite");
+
+        assertThat(store.find(tenantId)).isEmpty();
+        assertThat(store.tenantCount()).isZero();
+        assertThat(snapshotFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve descartar o catálogo que passa do tamanho máximo na atualização")
+    void refresh_WhenSnapshotGrowsPastMaxFileSize_ShouldEvictTenant() throws Exception {
+        save("Curso A");
+        CatalogSnapshotStore store = newStore(10, Duration.ofMinutes(30), 256);
+        assertThat(store.find(tenantId)).isPresent();
+
+        save("Curso B");
+        save("Curso C");
+        store.refresh();
+
+        assertThat(store.tenantCount()).isZero();
+        assertThat(snapshotFiles()).isEmpty();
+        assertThat(store.find(tenantId)).isEmpty();
+    }
+
+    private CatalogSnapshotStore newStore(int maxTenants, Duration idleTimeout) {
+        return newStore(maxTenants, idleTimeout, Integer.MAX_VALUE);
+    }
+
+    private CatalogSnapshotStore newStore(int maxTenants, Duration idleTimeout, long maxFileBytes) {
+        return new CatalogSnapshotStore(courseRepository, objectMapper, true, directory.toString(), maxTenants,
+                maxFileBytes, Duration.ofSeconds(10), idleTimeout, Duration.ofSeconds(5));
+    }
+
+    private List<Path> snapshotFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.maestria.maestria_course_service.support;
+
+import br.com.maestria.maestria_course_service.exception.CircuitOpenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker("teste", 2, Duration.ofSeconds(10), Duration.ofSeconds(1), clock::get);
+    }
+
+    private String fail() {
+        throw new IllegalStateException("falha");
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> circuitBreaker.execute(this::fail)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve abrir após falhas consecutivas e rejeitar chamadas sem executá-las")
+    void shouldOpenAfterConsecutiveFailures() {
+        openCircuit();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> "ok")).isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    @DisplayName("Deve zerar as falhas quando uma chamada tem sucesso")
+    void shouldResetFailuresOnSuccess() {
+        assertThatThrownBy(() -> circuitBreaker.execute(this::fail)).isInstanceOf(IllegalStateException.class);
+        circuitBreaker.execute(() -> "ok");
+        assertThatThrownBy(() -> circuitBreaker.execute(this::fail)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Não deve contar exceções ignoradas pelo filtro de falhas")
+    void shouldNotCountFailuresRejectedByPredicate() {
+        CircuitBreaker filtered = new CircuitBreaker("teste", 2, Duration.ofSeconds(10), Duration.ofSeconds(1),
+                IllegalArgumentException.class::isInstance, clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> filtered.execute(this::fail)).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(filtered.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Deve contar chamadas lentas como falhas")
+    void shouldCountSlowCallsAsFailures() {
+        for (int i = 0; i < 2; i++) {
+            circuitBreaker.execute(() -> clock.addAndGet(Duration.ofSeconds(2).toNanos()));
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Deve fechar quando a chamada de teste após o intervalo tem sucesso")
+    void shouldCloseAfterSuccessfulTrialCall() {
+        openCircuit();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(circuitBreaker.execute(() -> "ok")).isEqualTo("ok");
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Deve reabrir quando a chamada de teste falha")
+    void shouldReopenWhenTrialCallFails() {
+        openCircuit();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThatThrownBy(() -> circuitBreaker.execute(this::fail)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> "ok")).isInstanceOf(CircuitOpenException.class);
+    }
+}
@@ -0,0 +1,148 @@
+package br.com.maestria.maestria_course_service.support;
+
+import br.com.maestria.maestria_course_service.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve executar uma única carga para chamadas concorrentes da mesma chave")
+    void execute_WhenConcurrentCallsForSameKey_ShouldLoadOnce() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("curso", () -> {
+            loads.incrementAndGet();
+            loaderStarted.countDown();
+            await(releaseLoader);
+            return "resultado";
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        List<Thread> followerThreads = new CopyOnWriteArrayList<>();
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> {
+                followerThreads.add(Thread.currentThread());
+                return singleFlight.execute("curso", () -> {
+                    loads.incrementAndGet();
+                    return "outro";
+                });
+            }));
+        }
+        awaitWaiting(followerThreads, 5);
+        releaseLoader.countDown();
+
+        assertEquals("resultado", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("resultado", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a exceção da carga para todas as chamadas agrupadas")
+    void execute_WhenLoaderFails_ShouldPropagateErrorToFollowers() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("curso", () -> {
+            loaderStarted.countDown();
+            await(releaseLoader);
+            throw new IllegalStateException("falha no banco");
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        List<Thread> followerThreads = new CopyOnWriteArrayList<>();
+        Future<String> follower = executor.submit(() -> {
+            followerThreads.add(Thread.currentThread());
+            return singleFlight.execute("curso", () -> "nunca");
+        });
+        awaitWaiting(followerThreads, 1);
+        releaseLoader.countDown();
+
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+        assertInstanceOf(IllegalStateException.class, followerError.getCause());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Deve lançar ServiceUnavailableException quando a espera excede o limite")
+    void execute_WhenWaitExceedsTimeout_ShouldThrowServiceUnavailable() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("curso", () -> {
+            loaderStarted.countDown();
+            await(releaseLoader);
+            return "resultado";
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ServiceUnavailableException.class, () -> singleFlight.execute("curso", () -> "nunca"));
+
+        releaseLoader.countDown();
+        assertEquals("resultado", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Deve executar uma nova carga depois que a anterior terminou")
+    void execute_WhenPreviousCallCompleted_ShouldLoadAgain() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>(Duration.ofSeconds(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("curso", loads::incrementAndGet);
+        singleFlight.execute("curso", loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+    }
+
+    private static void awaitWaiting(List<Thread> threads, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (threads.size() == expected
+                    && threads.stream().allMatch(thread -> thread.getState() == Thread.State.TIMED_WAITING)) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        fail("As chamadas agrupadas não ficaram aguardando a carga em andamento");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
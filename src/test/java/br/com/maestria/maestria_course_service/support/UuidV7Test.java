@@ -0,0 +1,77 @@
+package br.com.maestria.maestria_course_service.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Deve gerar UUIDs com versão 7, variante RFC e timestamp atual")
+    void randomUuid_ShouldSetVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.randomUuid();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(UuidV7.timestampMillis(uuid) >= before);
+        assertTrue(UuidV7.timestampMillis(uuid) <= after + 1);
+        assertEquals(36, uuid.toString().length());
+    }
+
+    @Test
+    @DisplayName("Deve gerar valores estritamente crescentes mesmo dentro do mesmo milissegundo")
+    void randomUuid_ShouldBeMonotonic() {
+        UUID previous = UuidV7.randomUuid();
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = UuidV7.randomUuid();
+            assertTrue(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar valores únicos e ordenados por thread sob concorrência")
+    void randomUuid_WhenConcurrent_ShouldBeUniqueAndOrderedPerThread() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> generated = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        generated.add(UuidV7.randomUuid());
+                    }
+                    return generated;
+                }));
+            }
+
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> future : futures) {
+                List<UUID> generated = future.get(30, TimeUnit.SECONDS);
+                for (int i = 1; i < generated.size(); i++) {
+                    assertTrue(Long.compareUnsigned(generated.get(i).getMostSignificantBits(),
+                            generated.get(i - 1).getMostSignificantBits()) > 0);
+                }
+                all.addAll(generated);
+            }
+            assertEquals(threads * perThread, all.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
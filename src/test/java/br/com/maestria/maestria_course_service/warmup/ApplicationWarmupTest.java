@@ -0,0 +1,100 @@
+package br.com.maestria.maestria_course_service.warmup;
+
+import br.com.maestria.maestria_course_service.cache.CourseCache;
+import br.com.maestria.maestria_course_service.entity.Course;
+import br.com.maestria.maestria_course_service.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+
+import javax.crypto.spec.SecretKeySpec;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationWarmupTest {
+
+    private static final String SECRET = "ChaveSecretaParaTestesNaoUseEmProducao1234567890";
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private final CourseCache courseCache = new CourseCache(Duration.ofMinutes(5), 100);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.unwrap(any())).thenThrow(new SQLException("não é Hikari"));
+    }
+
+    private ApplicationWarmup warmup(Duration timeout) {
+        return new ApplicationWarmup(dataSource, courseRepository, courseCache,
+                Jackson2ObjectMapperBuilder.json().build(),
+                NimbusJwtDecoder.withSecretKey(new SecretKeySpec(SECRET.getBytes(), "HmacSHA256")).build(),
+                new JwtAuthenticationConverter(), SECRET, true, timeout, 3, 10, 50);
+    }
+
+    @Test
+    @DisplayName("Deve executar as consultas representativas e pré-carregar os cursos mais recentes")
+    void run_ShouldQueryAndPreloadRecentCourses() {
+        Course recent = Course.builder().id(UUID.randomUUID()).build();
+        Course older = Course.builder().id(UUID.randomUUID()).build();
+        when(courseRepository.findByOrderByUpdatedAtDesc(any(Pageable.class))).thenReturn(Arrays.asList(recent, older));
+
+        warmup(Duration.ofSeconds(30)).run(new DefaultApplicationArguments());
+
+        verify(courseRepository, times(3)).findById(any(UUID.class));
+        verify(courseRepository, times(3)).findByTenantId(any(UUID.class));
+        verify(courseRepository).findByOrderByUpdatedAtDesc(any(Pageable.class));
+        verify(courseRepository, never()).findAll(any(Pageable.class));
+        verify(courseRepository, times(3)).findAllByIds(any());
+        assertThat(courseCache.get(recent.getId())).contains(recent);
+        assertThat(courseCache.get(older.getId())).contains(older);
+    }
+
+    @Test
+    @DisplayName("Deve liberar a inicialização quando o aquecimento excede o tempo limite")
+    void run_WhenWarmupExceedsTimeout_ShouldReturn() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(courseRepository.findById(any(UUID.class))).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interrupted.countDown();
+            }
+            return Optional.empty();
+        });
+
+        long start = System.nanoTime();
+        warmup(Duration.ofMillis(200)).run(new DefaultApplicationArguments());
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(courseRepository, after(200).never()).findByOrderByUpdatedAtDesc(any(Pageable.class));
+    }
+}